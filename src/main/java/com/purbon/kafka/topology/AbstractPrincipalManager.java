@@ -62,7 +62,8 @@ abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
       throws IOException {
     Set<ServiceAccount> accounts =
         config.fetchStateFromTheCluster()
-            ? provider.listServiceAccounts()
+            ? plan.getClusterSnapshot()
+                .get(ClusterSnapshot.SERVICE_ACCOUNTS, provider::listServiceAccounts)
             : plan.getServiceAccounts();
     return accounts.stream()
         .filter(serviceAccount -> matchesPrefixList(serviceAccount.getName()))
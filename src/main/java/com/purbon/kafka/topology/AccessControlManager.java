@@ -55,6 +55,13 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     this.resourceFilter = new ResourceFilter(config);
   }
 
+  @Override
+  public void prefetchClusterState(ClusterSnapshot snapshot) {
+    if (config.fetchStateFromTheCluster() || shouldDetectDivergences()) {
+      snapshot.prefetch(ClusterSnapshot.ACLS, this::providerBindings);
+    }
+  }
+
   @Override
   public void updatePlan(ExecutionPlan plan, final Map<String, Topology> topologies)
       throws IOException {
@@ -73,7 +80,7 @@ public class AccessControlManager implements ExecutionPlanUpdater {
   private Set<TopologyAclBinding> loadActualClusterStateIfAvailable(ExecutionPlan plan)
       throws IOException {
     Set<TopologyAclBinding> bindings =
-        config.fetchStateFromTheCluster() ? providerBindings() : plan.getBindings();
+        config.fetchStateFromTheCluster() ? clusterBindings(plan) : plan.getBindings();
     var currentState =
         bindings.stream()
             .filter(resourceFilter::matchesManagedPrefixList)
@@ -93,13 +100,18 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     return currentState;
   }
 
-  private void detectDivergencesInTheRemoteCluster(ExecutionPlan plan)
-      throws RemoteValidationException {
+  private boolean shouldDetectDivergences() {
+    return config.shouldVerifyRemoteState()
+        && !config.fetchStateFromTheCluster()
+        && config.isAllowDeleteTopics();
+  }
+
+  private void detectDivergencesInTheRemoteCluster(ExecutionPlan plan) throws IOException {
     if (!config.isAllowDeleteTopics()) {
       /* Assume topics are cleaned up by mechanisms outside JulieOps, and do not fail. */
       return;
     }
-    var remoteAcls = providerBindings();
+    var remoteAcls = clusterBindings(plan);
 
     var delta =
         plan.getBindings().stream()
@@ -121,6 +133,10 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     return internalPrincipal.map(i -> !binding.getPrincipal().equals(i)).orElse(true);
   }
 
+  private Set<TopologyAclBinding> clusterBindings(ExecutionPlan plan) throws IOException {
+    return plan.getClusterSnapshot().get(ClusterSnapshot.ACLS, this::providerBindings);
+  }
+
   private Set<TopologyAclBinding> providerBindings() {
     Set<TopologyAclBinding> bindings = new HashSet<>();
     controlProvider.listAcls().values().forEach(bindings::addAll);
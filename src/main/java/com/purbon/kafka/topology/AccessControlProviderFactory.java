@@ -38,8 +38,9 @@ public class AccessControlProviderFactory {
       switch (accessControlClassName) {
         case ACCESS_CONTROL_DEFAULT_CLASS:
           Constructor<?> aclsProviderConstructor =
-              clazz.getConstructor(TopologyBuilderAdminClient.class);
-          return (SimpleAclsProvider) aclsProviderConstructor.newInstance(builderAdminClient);
+              clazz.getConstructor(TopologyBuilderAdminClient.class, Configuration.class);
+          return (SimpleAclsProvider)
+              aclsProviderConstructor.newInstance(builderAdminClient, config);
         case CONFLUENT_CLOUD_CONTROL_CLASS:
           Constructor<?> ccloudProviderConstructor =
               clazz.getConstructor(TopologyBuilderAdminClient.class, Configuration.class);
@@ -51,12 +52,13 @@ public class AccessControlProviderFactory {
           return (HybridCCloudAclsProvider)
               hybridCcloudProviderConstructor.newInstance(builderAdminClient, config);
         case RBAC_ACCESS_CONTROL_CLASS:
-          Constructor<?> rbacProviderConstructor = clazz.getConstructor(MDSApiClient.class);
+          Constructor<?> rbacProviderConstructor =
+              clazz.getConstructor(MDSApiClient.class, Configuration.class);
           MDSApiClient apiClient = apiClientLogIn();
           if (!config.doValidate()) {
             apiClient.authenticate();
           }
-          return (RBACProvider) rbacProviderConstructor.newInstance(apiClient);
+          return (RBACProvider) rbacProviderConstructor.newInstance(apiClient, config);
         default:
           throw new IOException("Unknown access control provided. " + accessControlClassName);
       }
@@ -6,11 +6,18 @@ import com.purbon.kafka.topology.actions.SyncArtefactAction;
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.exceptions.RemoteValidationException;
 import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.ArtefactIndex;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.artefact.KsqlVarsArtefact;
 import com.purbon.kafka.topology.model.artefact.TypeArtefact;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -44,9 +51,17 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
         .orElse(false);
   }
 
+  @Override
+  public void prefetchClusterState(ClusterSnapshot snapshot) {
+    if (config.fetchStateFromTheCluster() || shouldDetectDivergences()) {
+      snapshot.prefetch(clusterStateKey(), this::getClustersState);
+    }
+  }
+
   @Override
   public void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) throws IOException {
     Collection<? extends Artefact> currentArtefacts = loadActualClusterStateIfAvailable(plan);
+    ArtefactIndex currentIndex = new ArtefactIndex(currentArtefacts);
 
     Set<Artefact> artefacts = new HashSet<>();
 
@@ -60,8 +75,7 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
       entryArtefacts.removeIf(this::findKsqlVarsArtefact);
 
       for (Artefact artefact : entryArtefacts) {
-        Optional<? extends Artefact> existingArtefactOpt =
-            currentArtefacts.stream().filter(ea -> ea.equals(artefact)).findAny();
+        Optional<Artefact> existingArtefactOpt = currentIndex.find(artefact);
         if (existingArtefactOpt.isEmpty()) {
           ArtefactClient client = selectClient(artefact);
 
@@ -72,7 +86,7 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
                     + " require a non configured client, please check our configuration");
           }
           client.addSessionVars(kSqlVarsArtefact.getSessionVars());
-          plan.add(new CreateArtefactAction(client, rootPath(), currentArtefacts, artefact));
+          plan.add(new CreateArtefactAction(client, rootPath(), currentIndex, artefact));
         } else {
           Artefact existingArtefact = existingArtefactOpt.get();
           if (!Objects.equals(existingArtefact.getHash(), artefact.getHash())) {
@@ -123,7 +137,8 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
 
   protected Collection<? extends Artefact> loadActualClusterStateIfAvailable(ExecutionPlan plan)
       throws IOException {
-    var currentState = config.fetchStateFromTheCluster() ? getClustersState() : getLocalState(plan);
+    var currentState =
+        config.fetchStateFromTheCluster() ? clustersState(plan) : getLocalState(plan);
 
     if (!config.shouldVerifyRemoteState()) {
       OnceOnlyWarningLogger.getInstance().logRemoteStateVerificationDisabledWarning();
@@ -138,12 +153,26 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
     return currentState;
   }
 
+  private Collection<? extends Artefact> clustersState(ExecutionPlan plan) throws IOException {
+    return plan.getClusterSnapshot().get(clusterStateKey(), this::getClustersState);
+  }
+
+  private String clusterStateKey() {
+    return getClass().getName();
+  }
+
+  private boolean shouldDetectDivergences() {
+    return config.shouldVerifyRemoteState()
+        && !config.fetchStateFromTheCluster()
+        && config.isAllowDeleteTopics();
+  }
+
   private void detectDivergencesInTheRemoteCluster(ExecutionPlan plan) throws IOException {
     if (!config.isAllowDeleteTopics()) {
       /* Assume topics are cleaned up by mechanisms outside JulieOps, and do not fail. */
       return;
     }
-    var remoteArtefacts = getClustersState();
+    var remoteArtefacts = clustersState(plan);
 
     var delta =
         getLocalState(plan).stream()
@@ -160,6 +189,87 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
     }
   }
 
+  /**
+   * Fetch the state of every configured cluster concurrently, keyed by the label of its client.
+   * Each cluster has its own timeout, and when some of them fail the errors of all of them are
+   * reported together.
+   */
+  protected Map<String, Collection<? extends Artefact>> fetchClustersState() throws IOException {
+    long timeoutMs = config.getArtefactsFetchTimeoutMs();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, clients.size()),
+            runnable -> {
+              Thread thread = new Thread(runnable, "julie-artefacts-state");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      Map<String, CompletableFuture<Collection<? extends Artefact>>> fetches =
+          new LinkedHashMap<>();
+      clients.forEach(
+          (label, client) -> {
+            CompletableFuture<Collection<? extends Artefact>> fetch =
+                CompletableFuture.supplyAsync(() -> fetchOrFail(client), executor);
+            if (timeoutMs > 0) {
+              fetch = fetch.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+            }
+            fetches.put(label, fetch);
+          });
+
+      Map<String, Collection<? extends Artefact>> states = new LinkedHashMap<>();
+      Map<String, Throwable> errors = new LinkedHashMap<>();
+      for (Map.Entry<String, CompletableFuture<Collection<? extends Artefact>>> entry :
+          fetches.entrySet()) {
+        try {
+          states.put(entry.getKey(), entry.getValue().join());
+        } catch (CompletionException e) {
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+          errors.put(entry.getKey(), e.getCause());
+        }
+      }
+
+      if (!errors.isEmpty()) {
+        throw clustersStateError(errors);
+      }
+      return states;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Collection<? extends Artefact> fetchOrFail(ArtefactClient client) {
+    try {
+      return client.getClusterState();
+    } catch (IOException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private IOException clustersStateError(Map<String, Throwable> errors) {
+    String details =
+        errors.entrySet().stream()
+            .map(
+                e -> {
+                  Throwable error = e.getValue();
+                  String reason =
+                      error instanceof TimeoutException ? "timed out" : String.valueOf(error);
+                  return String.format(
+                      "%s (%s): %s", e.getKey(), clients.get(e.getKey()).getServer(), reason);
+                })
+            .collect(Collectors.joining(", "));
+    Iterator<Throwable> it = errors.values().iterator();
+    IOException exception =
+        new IOException(
+            String.format(
+                "Failed to fetch the state of %d cluster(s): %s", errors.size(), details),
+            it.next());
+    it.forEachRemaining(exception::addSuppressed);
+    return exception;
+  }
+
   protected abstract Collection<? extends Artefact> getLocalState(ExecutionPlan plan);
 
   protected abstract Collection<? extends Artefact> getClustersState() throws IOException;
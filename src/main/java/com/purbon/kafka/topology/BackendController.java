@@ -2,7 +2,9 @@ package com.purbon.kafka.topology;
 
 import com.purbon.kafka.topology.backend.Backend;
 import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.backend.BackendStateDelta;
 import com.purbon.kafka.topology.backend.FileBackend;
+import com.purbon.kafka.topology.backend.JournaledBackend;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
@@ -10,6 +12,7 @@ import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.Getter;
 import org.apache.logging.log4j.LogManager;
@@ -67,6 +70,11 @@ public class BackendController {
     state.addKSqlTables(ksqlTable);
   }
 
+  public void addSchemas(Map<String, String> schemas) {
+    LOGGER.debug(String.format("Adding Schemas of subjects %s to the backend", schemas.keySet()));
+    state.addSchemas(schemas);
+  }
+
   public Set<ServiceAccount> getServiceAccounts() {
     return state.getAccounts();
   }
@@ -91,6 +99,10 @@ public class BackendController {
     return state.getKSqlTables();
   }
 
+  public Map<String, String> getSchemas() {
+    return state.getSchemas();
+  }
+
   public void flushAndClose() throws IOException {
     LOGGER.debug(String.format("Flush data from the backend at %s", backend.getClass()));
     backend.createOrOpen(Mode.TRUNCATE);
@@ -98,6 +110,24 @@ public class BackendController {
     backend.close();
   }
 
+  /**
+   * Persist the state at the end of a run. A {@link JournaledBackend} only appends the changes of
+   * the run, the other backends save the complete state.
+   */
+  public void flushAndClose(BackendStateDelta delta) throws IOException {
+    if (!(backend instanceof JournaledBackend)) {
+      flushAndClose();
+      return;
+    }
+    LOGGER.debug(String.format("Append the changes to the backend at %s", backend.getClass()));
+    backend.createOrOpen(Mode.APPEND);
+    try {
+      ((JournaledBackend) backend).append(delta, state);
+    } finally {
+      backend.close();
+    }
+  }
+
   public void load() throws IOException {
     LOGGER.debug(String.format("Loading data from the backend at %s", backend.getClass()));
     backend.createOrOpen();
@@ -0,0 +1,114 @@
+package com.purbon.kafka.topology;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Remote state of the clusters as seen while building an execution plan. Each piece of state is
+ * fetched at most once per plan and shared by every {@link ExecutionPlanUpdater} that asks for it.
+ * The fetches requested in advance with {@link #prefetch(String, Fetcher)} run concurrently.
+ *
+ * <p>The snapshot is taken before the plan runs, so it should not be used to describe the state
+ * of the clusters after the execution.
+ */
+public class ClusterSnapshot {
+
+  private static final Logger LOGGER = LogManager.getLogger(ClusterSnapshot.class);
+
+  public static final String TOPICS = "topics";
+  public static final String ACLS = "acls";
+  public static final String QUOTAS = "quotas";
+  public static final String SERVICE_ACCOUNTS = "service.accounts";
+
+  @FunctionalInterface
+  public interface Fetcher<T> {
+    T fetch() throws IOException;
+  }
+
+  private final Map<String, CompletableFuture<Object>> state;
+  private ExecutorService executor;
+  private int pendingPrefetches;
+
+  public ClusterSnapshot() {
+    this.state = new ConcurrentHashMap<>();
+    this.executor = null;
+    this.pendingPrefetches = 0;
+  }
+
+  /** Start fetching the given state in the background, unless it was already requested. */
+  public <T> void prefetch(String key, Fetcher<T> fetcher) {
+    state.computeIfAbsent(
+        key,
+        k -> {
+          LOGGER.debug(String.format("Prefetch %s from the cluster", k));
+          return CompletableFuture.supplyAsync(() -> fetchOrFail(fetcher), acquireExecutor())
+              .whenComplete((result, error) -> releaseExecutor());
+        });
+  }
+
+  /** Return the given state, fetching it in the calling thread if nobody requested it before. */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key, Fetcher<T> fetcher) throws IOException {
+    CompletableFuture<Object> fetch = new CompletableFuture<>();
+    CompletableFuture<Object> current = state.putIfAbsent(key, fetch);
+    if (current == null) {
+      LOGGER.debug(String.format("Fetch %s from the cluster", key));
+      current = fetch;
+      try {
+        fetch.complete(fetcher.fetch());
+      } catch (IOException | RuntimeException e) {
+        fetch.completeExceptionally(e);
+      }
+    }
+
+    try {
+      return (T) current.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  private static <T> Object fetchOrFail(Fetcher<T> fetcher) {
+    try {
+      return fetcher.fetch();
+    } catch (IOException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private synchronized ExecutorService acquireExecutor() {
+    pendingPrefetches++;
+    if (executor == null) {
+      executor =
+          Executors.newCachedThreadPool(
+              runnable -> {
+                Thread thread = new Thread(runnable, "julie-cluster-snapshot");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return executor;
+  }
+
+  // the pool only lives while prefetches are running, a later prefetch starts a new one
+  private synchronized void releaseExecutor() {
+    pendingPrefetches--;
+    if (pendingPrefetches == 0 && executor != null) {
+      executor.shutdown();
+      executor = null;
+    }
+  }
+}
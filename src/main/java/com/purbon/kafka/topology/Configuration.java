@@ -661,8 +661,12 @@ public class Configuration {
     return getString(JULIE_KAFKA_STATE_CONSUMER_GROUP_ID);
   }
 
-  public Integer getKafkaBackendConsumerRetries() {
-    return config.getInt(JULIE_KAFKA_STATE_CONSUMER_RETRIES);
+  public long getKafkaBackendConsumerTailRecords() {
+    return config.getLong(JULIE_KAFKA_STATE_CONSUMER_TAIL_RECORDS);
+  }
+
+  public long getKafkaBackendLoadTimeoutMs() {
+    return config.getLong(JULIE_KAFKA_STATE_LOAD_TIMEOUT_MS);
   }
 
   public BasicAuth getConfluentCloudClusterAuth() {
@@ -693,6 +697,14 @@ public class Configuration {
     return config.getInt(CCLOUD_SA_ACCOUNT_QUERY_PAGE_SIZE);
   }
 
+  public Long getConfluentCloudServiceAccountLookupTtlMs() {
+    return config.getLong(CCLOUD_SA_LOOKUP_TTL_MS);
+  }
+
+  public Integer getConfluentCloudAclsParallelism() {
+    return config.getInt(CCLOUD_ACLS_PARALLELISM);
+  }
+
   public Boolean enabledPrincipalManagement() {
     return config.getBoolean(JULIE_ENABLE_PRINCIPAL_MANAGEMENT);
   }
@@ -725,6 +737,71 @@ public class Configuration {
     return config.getInt(JULIE_HTTP_BACKOFF_TIME_MS);
   }
 
+  public Integer getHttpMaxBackoffTimeMs() {
+    return config.getInt(JULIE_HTTP_MAX_BACKOFF_TIME_MS);
+  }
+
+  public Double getHttpMaxRequestsPerSecond(String service) {
+    return config.getDouble(httpLimitProperty(service, "requests.per.second"));
+  }
+
+  public Integer getHttpMaxRequestsInFlight(String service) {
+    return config.getInt(httpLimitProperty(service, "max.in.flight"));
+  }
+
+  private String httpLimitProperty(String service, String limit) {
+    String property = JULIE_HTTP_LIMITS + "." + service + "." + limit;
+    return config.hasPath(property) ? property : JULIE_HTTP_LIMITS + ".default." + limit;
+  }
+
+  public Integer getExecutionParallelism() {
+    return config.getInt(JULIE_EXECUTION_PARALLELISM);
+  }
+
+  public Integer getTopologyParseParallelism() {
+    return config.getInt(JULIE_TOPOLOGY_PARSE_PARALLELISM);
+  }
+
+  public Integer getArtefactsFetchTimeoutMs() {
+    return config.getInt(JULIE_ARTEFACTS_FETCH_TIMEOUT_MS);
+  }
+
+  public Integer getRbacLookupParallelism() {
+    return config.getInt(JULIE_RBAC_LOOKUP_PARALLELISM);
+  }
+
+  public Integer getRbacBindingsBatchSize() {
+    return config.getInt(JULIE_RBAC_BINDINGS_BATCH_SIZE);
+  }
+
+  public Integer getTopicsDescribeBatchSize() {
+    return config.getInt(JULIE_TOPICS_DESCRIBE_BATCH_SIZE);
+  }
+
+  public Integer getTopicsCreateBatchSize() {
+    return config.getInt(JULIE_TOPICS_CREATE_BATCH_SIZE);
+  }
+
+  public Integer getAclsDeleteBatchSize() {
+    return config.getInt(JULIE_ACLS_DELETE_BATCH_SIZE);
+  }
+
+  public boolean isSchemasSkipUnchanged() {
+    return config.getBoolean(JULIE_SCHEMAS_SKIP_UNCHANGED);
+  }
+
+  public Integer getSchemasCacheCapacity() {
+    return config.getInt(JULIE_SCHEMAS_CACHE_CAPACITY);
+  }
+
+  public Integer getSchemasRegisterParallelism() {
+    return config.getInt(JULIE_SCHEMAS_REGISTER_PARALLELISM);
+  }
+
+  public Integer getStateJournalCompactionEntries() {
+    return config.getInt(JULIE_STATE_JOURNAL_COMPACTION_ENTRIES);
+  }
+
   private String getString(String path) {
     return config.getString(path).strip().trim();
   }
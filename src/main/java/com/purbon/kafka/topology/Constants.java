@@ -37,6 +37,9 @@ public final class Constants {
   public static final String KAFKA_STATE_PROCESSOR_CLASS =
       "com.purbon.kafka.topology.backend.KafkaBackend";
 
+  public static final String JOURNAL_FILE_STATE_PROCESSOR_CLASS =
+      "com.purbon.kafka.topology.backend.JournalFileBackend";
+
   public static final String REDIS_HOST_CONFIG = "topology.builder.redis.host";
   public static final String REDIS_PORT_CONFIG = "topology.builder.redis.port";
   public static final String REDIS_BUCKET_CONFIG = "topology.builder.redis.bucket";
@@ -103,6 +106,10 @@ public final class Constants {
   public static final String CCLOUD_SA_ACCOUNT_QUERY_PAGE_SIZE =
       "ccloud.service_account.query.page.size";
 
+  public static final String CCLOUD_SA_LOOKUP_TTL_MS = "ccloud.service_account.lookup.ttl.ms";
+
+  public static final String CCLOUD_ACLS_PARALLELISM = "ccloud.acls.parallelism";
+
   public static final String TOPOLOGY_EXPERIMENTAL_ENABLED_CONFIG =
       "topology.features.experimental";
   static final String TOPOLOGY_PRINCIPAL_TRANSLATION_ENABLED_CONFIG =
@@ -179,8 +186,10 @@ public final class Constants {
   public static final String JULIE_KAFKA_STATE_TOPIC = "julie.kafka.state.topic";
   public static final String JULIE_KAFKA_STATE_CONSUMER_GROUP_ID =
       "julie.kafka.state.consumer.group.id";
-  public static final String JULIE_KAFKA_STATE_CONSUMER_RETRIES =
-      "julie.kafka.state.consumer.retries";
+  public static final String JULIE_KAFKA_STATE_CONSUMER_TAIL_RECORDS =
+      "julie.kafka.state.consumer.tail.records";
+  public static final String JULIE_KAFKA_STATE_LOAD_TIMEOUT_MS =
+      "julie.kafka.state.load.timeout.ms";
   public static final String JULIE_INSTANCE_ID = "julie.instance.id";
 
   public static final String MANAGED_BY = "Managed by JulieOps";
@@ -196,4 +205,28 @@ public final class Constants {
 
   public static final String JULIE_HTTP_RETRY_TIMES = "julie.http.retry.times";
   public static final String JULIE_HTTP_BACKOFF_TIME_MS = "julie.http.retry.backoff.time.ms";
+  public static final String JULIE_HTTP_MAX_BACKOFF_TIME_MS =
+      "julie.http.retry.max.backoff.time.ms";
+  public static final String JULIE_HTTP_LIMITS = "julie.http.limits";
+
+  public static final String JULIE_EXECUTION_PARALLELISM = "julie.execution.parallelism";
+  public static final String JULIE_TOPOLOGY_PARSE_PARALLELISM = "julie.topology.parse.parallelism";
+
+  public static final String JULIE_ARTEFACTS_FETCH_TIMEOUT_MS = "julie.artefacts.fetch.timeout.ms";
+
+  public static final String JULIE_TOPICS_DESCRIBE_BATCH_SIZE = "julie.topics.describe.batch.size";
+  public static final String JULIE_TOPICS_CREATE_BATCH_SIZE = "julie.topics.create.batch.size";
+
+  public static final String JULIE_ACLS_DELETE_BATCH_SIZE = "julie.acls.delete.batch.size";
+
+  public static final String JULIE_RBAC_LOOKUP_PARALLELISM = "julie.rbac.lookup.parallelism";
+  public static final String JULIE_RBAC_BINDINGS_BATCH_SIZE = "julie.rbac.bindings.batch.size";
+
+  public static final String JULIE_SCHEMAS_SKIP_UNCHANGED = "julie.schemas.skip.unchanged";
+  public static final String JULIE_SCHEMAS_CACHE_CAPACITY = "julie.schemas.cache.capacity";
+  public static final String JULIE_SCHEMAS_REGISTER_PARALLELISM =
+      "julie.schemas.register.parallelism";
+
+  public static final String JULIE_STATE_JOURNAL_COMPACTION_ENTRIES =
+      "julie.state.journal.compaction.entries";
 }
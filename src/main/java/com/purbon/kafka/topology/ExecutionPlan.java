@@ -6,8 +6,10 @@ import com.purbon.kafka.topology.actions.accounts.ClearAccounts;
 import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
 import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
 import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
 import com.purbon.kafka.topology.audit.Auditor;
 import com.purbon.kafka.topology.audit.VoidAuditor;
+import com.purbon.kafka.topology.backend.BackendStateDelta;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlArtefact;
@@ -31,6 +33,7 @@ public class ExecutionPlan {
   private final List<Action> plan;
   private final PrintStream outputStream;
   private final BackendController backendController;
+  private final ClusterSnapshot clusterSnapshot;
 
   private Set<TopologyAclBinding> bindings;
   private Set<ServiceAccount> serviceAccounts;
@@ -38,6 +41,9 @@ public class ExecutionPlan {
   private Set<KafkaConnectArtefact> connectors;
   private Set<KsqlStreamArtefact> ksqlStreams;
   private Set<KsqlTableArtefact> ksqlTables;
+  private Map<String, String> schemas;
+  // changes made by the actions, persisted on their own by a journaled backend
+  private final BackendStateDelta delta;
 
   private Auditor auditor;
 
@@ -56,7 +62,10 @@ public class ExecutionPlan {
     this.connectors = new HashSet<>();
     this.ksqlStreams = new HashSet<>();
     this.ksqlTables = new HashSet<>();
+    this.schemas = new HashMap<>();
+    this.delta = new BackendStateDelta();
     this.backendController = backendController;
+    this.clusterSnapshot = new ClusterSnapshot();
 
     if (backendController.size() > 0) {
       this.bindings.addAll(backendController.getBindings());
@@ -65,6 +74,7 @@ public class ExecutionPlan {
       this.connectors.addAll(backendController.getConnectors());
       this.ksqlStreams.addAll(backendController.getKSqlStreams());
       this.ksqlTables.addAll(backendController.getKSqlTables());
+      this.schemas.putAll(backendController.getSchemas());
     }
   }
 
@@ -90,13 +100,17 @@ public class ExecutionPlan {
   }
 
   public void run(boolean dryRun) throws IOException {
-    for (Action action : plan) {
-      try {
-        execute(action, dryRun);
-      } catch (IOException e) {
-        LOGGER.error(String.format("Something happen running action %s", action), e);
-        throw e;
+    run(dryRun, 1);
+  }
+
+  public void run(boolean dryRun, int parallelism) throws IOException {
+    // a dry run only prints the plan, so it is kept sequential to have a deterministic output
+    if (dryRun || parallelism <= 1) {
+      for (Action action : plan) {
+        executeOrFail(action, dryRun);
       }
+    } else {
+      new ParallelPlanExecutor(parallelism).execute(plan, action -> executeOrFail(action, false));
     }
 
     if (!dryRun) {
@@ -107,83 +121,116 @@ public class ExecutionPlan {
       backendController.addConnectors(connectors);
       backendController.addKSqlStreams(ksqlStreams);
       backendController.addKSqlTables(ksqlTables);
-      backendController.flushAndClose();
+      backendController.addSchemas(schemas);
+      backendController.flushAndClose(delta);
+    }
+  }
+
+  private void executeOrFail(Action action, boolean dryRun) throws IOException {
+    try {
+      execute(action, dryRun);
+    } catch (IOException e) {
+      LOGGER.error(String.format("Something happen running action %s", action), e);
+      throw e;
     }
   }
 
   private void execute(Action action, boolean dryRun) throws IOException {
     LOGGER.debug(String.format("Execution action %s (dryRun=%s)", action, dryRun));
-    if (!action.toString().isEmpty()) {
-      outputStream.println(action);
+    String description = action.toString();
+    synchronized (this) {
+      if (!description.isEmpty()) {
+        outputStream.println(description);
+      }
     }
     if (!dryRun) {
       action.run();
-      auditor.log(action);
-      // TODO: a nicer and more clean version of this might be a cool thing to have, current version
-      // is shitty.
-      if (action instanceof CreateTopicAction) {
-        topics.add(((CreateTopicAction) action).getTopic());
-      } else if (action instanceof DeleteTopics) {
-        List<String> topicsToBeDeleted = ((DeleteTopics) action).getTopicsToBeDeleted();
-        topics =
-            new StreamUtils<>(topics.stream())
-                .filterAsSet(topic -> !topicsToBeDeleted.contains(topic));
-      }
-      if (action instanceof BaseAccessControlAction
-          && !((BaseAccessControlAction) action).getAclBindings().isEmpty()) {
-        if (action instanceof ClearBindings) {
-          bindings =
-              new StreamUtils<>(bindings.stream())
-                  .filterAsSet(
-                      binding ->
-                          !((BaseAccessControlAction) action).getAclBindings().contains(binding));
-        } else {
-          bindings.addAll(((BaseAccessControlAction) action).getAclBindings());
-        }
+      updateState(action);
+    }
+  }
+
+  private synchronized void updateState(Action action) {
+    auditor.log(action);
+    // TODO: a nicer and more clean version of this might be a cool thing to have, current version
+    // is shitty.
+    if (action instanceof CreateTopicAction) {
+      String topic = ((CreateTopicAction) action).getTopic();
+      topics.add(topic);
+      delta.addTopics(Collections.singleton(topic));
+    } else if (action instanceof DeleteTopics) {
+      List<String> topicsToBeDeleted = ((DeleteTopics) action).getTopicsToBeDeleted();
+      topics =
+          new StreamUtils<>(topics.stream())
+              .filterAsSet(topic -> !topicsToBeDeleted.contains(topic));
+      delta.removeTopics(topicsToBeDeleted);
+    } else if (action instanceof RegisterSchemaAction) {
+      Map<String, String> fingerprints = ((RegisterSchemaAction) action).getFingerprints();
+      schemas.putAll(fingerprints);
+      delta.addSchemas(fingerprints);
+    }
+    if (action instanceof BaseAccessControlAction
+        && !((BaseAccessControlAction) action).getAclBindings().isEmpty()) {
+      List<TopologyAclBinding> aclBindings = ((BaseAccessControlAction) action).getAclBindings();
+      if (action instanceof ClearBindings) {
+        bindings =
+            new StreamUtils<>(bindings.stream())
+                .filterAsSet(binding -> !aclBindings.contains(binding));
+        delta.removeBindings(aclBindings);
+      } else {
+        bindings.addAll(aclBindings);
+        delta.addBindings(aclBindings);
       }
-      if (action instanceof BaseAccountsAction) {
-        if (action instanceof ClearAccounts) {
-          Collection<ServiceAccount> toDeletePrincipals = ((ClearAccounts) action).getPrincipals();
-          serviceAccounts =
-              new StreamUtils<>(serviceAccounts.stream())
-                  .filterAsSet(sa -> !toDeletePrincipals.contains(sa));
-        } else {
-          CreateAccounts createAction = (CreateAccounts) action;
-          serviceAccounts.addAll(createAction.getPrincipals());
-        }
+    }
+    if (action instanceof BaseAccountsAction) {
+      if (action instanceof ClearAccounts) {
+        Collection<ServiceAccount> toDeletePrincipals = ((ClearAccounts) action).getPrincipals();
+        serviceAccounts =
+            new StreamUtils<>(serviceAccounts.stream())
+                .filterAsSet(sa -> !toDeletePrincipals.contains(sa));
+        delta.removeAccounts(toDeletePrincipals);
+      } else {
+        CreateAccounts createAction = (CreateAccounts) action;
+        serviceAccounts.addAll(createAction.getPrincipals());
+        delta.addAccounts(createAction.getPrincipals());
       }
+    }
 
-      if (action instanceof CreateArtefactAction) {
-        Artefact artefact = ((CreateArtefactAction) action).getArtefact();
-        if (artefact instanceof KafkaConnectArtefact) {
-          connectors.add((KafkaConnectArtefact) artefact);
-        } else if (artefact instanceof KsqlStreamArtefact) {
-          ksqlStreams.add((KsqlStreamArtefact) artefact);
-        } else if (artefact instanceof KsqlTableArtefact) {
-          ksqlTables.add((KsqlTableArtefact) artefact);
-        }
-      } else if (action instanceof SyncArtefactAction) {
-        Artefact artefact = ((SyncArtefactAction) action).getArtefact();
-        if (artefact instanceof KafkaConnectArtefact) {
-          connectors =
-              new StreamUtils<>(connectors.stream())
-                  .filterAsSet(connector -> !connector.equals(artefact));
-          connectors.add((KafkaConnectArtefact) artefact);
-        }
-      } else if (action instanceof DeleteArtefactAction) {
-        Artefact toBeDeleted = ((DeleteArtefactAction) action).getArtefact();
-        if (toBeDeleted instanceof KafkaConnectArtefact) {
-          connectors =
-              new StreamUtils<>(connectors.stream())
-                  .filterAsSet(connector -> !connector.equals(toBeDeleted));
-        } else if (toBeDeleted instanceof KsqlStreamArtefact) {
-          ksqlStreams =
-              new StreamUtils<>(ksqlStreams.stream())
-                  .filterAsSet(ksql -> !ksql.equals(toBeDeleted));
-        } else if (toBeDeleted instanceof KsqlTableArtefact) {
-          ksqlTables =
-              new StreamUtils<>(ksqlTables.stream()).filterAsSet(ksql -> !ksql.equals(toBeDeleted));
-        }
+    if (action instanceof CreateArtefactAction) {
+      Artefact artefact = ((CreateArtefactAction) action).getArtefact();
+      if (artefact instanceof KafkaConnectArtefact) {
+        connectors.add((KafkaConnectArtefact) artefact);
+        delta.addConnectors(Collections.singleton((KafkaConnectArtefact) artefact));
+      } else if (artefact instanceof KsqlStreamArtefact) {
+        ksqlStreams.add((KsqlStreamArtefact) artefact);
+        delta.addKSqlStreams(Collections.singleton((KsqlStreamArtefact) artefact));
+      } else if (artefact instanceof KsqlTableArtefact) {
+        ksqlTables.add((KsqlTableArtefact) artefact);
+        delta.addKSqlTables(Collections.singleton((KsqlTableArtefact) artefact));
+      }
+    } else if (action instanceof SyncArtefactAction) {
+      Artefact artefact = ((SyncArtefactAction) action).getArtefact();
+      if (artefact instanceof KafkaConnectArtefact) {
+        connectors =
+            new StreamUtils<>(connectors.stream())
+                .filterAsSet(connector -> !connector.equals(artefact));
+        connectors.add((KafkaConnectArtefact) artefact);
+        delta.addConnectors(Collections.singleton((KafkaConnectArtefact) artefact));
+      }
+    } else if (action instanceof DeleteArtefactAction) {
+      Artefact toBeDeleted = ((DeleteArtefactAction) action).getArtefact();
+      if (toBeDeleted instanceof KafkaConnectArtefact) {
+        connectors =
+            new StreamUtils<>(connectors.stream())
+                .filterAsSet(connector -> !connector.equals(toBeDeleted));
+        delta.removeConnectors(Collections.singleton((KafkaConnectArtefact) toBeDeleted));
+      } else if (toBeDeleted instanceof KsqlStreamArtefact) {
+        ksqlStreams =
+            new StreamUtils<>(ksqlStreams.stream()).filterAsSet(ksql -> !ksql.equals(toBeDeleted));
+        delta.removeKSqlStreams(Collections.singleton((KsqlStreamArtefact) toBeDeleted));
+      } else if (toBeDeleted instanceof KsqlTableArtefact) {
+        ksqlTables =
+            new StreamUtils<>(ksqlTables.stream()).filterAsSet(ksql -> !ksql.equals(toBeDeleted));
+        delta.removeKSqlTables(Collections.singleton((KsqlTableArtefact) toBeDeleted));
       }
     }
   }
@@ -200,6 +247,24 @@ public class ExecutionPlan {
     return topics;
   }
 
+  public Map<String, String> getSchemas() {
+    return schemas;
+  }
+
+  /** Forget the schemas recorded for the subjects that are not among the given ones. */
+  public synchronized void retainSchemas(Set<String> subjects) {
+    Map<String, String> removed = new HashMap<>(schemas);
+    removed.keySet().removeAll(subjects);
+    if (!removed.isEmpty()) {
+      schemas.keySet().removeAll(removed.keySet());
+      delta.removeSchemas(removed);
+    }
+  }
+
+  public ClusterSnapshot getClusterSnapshot() {
+    return clusterSnapshot;
+  }
+
   public List<Action> getActions() {
     return plan;
   }
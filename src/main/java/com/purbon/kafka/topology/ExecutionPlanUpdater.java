@@ -14,5 +14,8 @@ public interface ExecutionPlanUpdater {
 
   void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) throws IOException;
 
+  /** Request in advance the cluster state this updater will need while updating the plan. */
+  default void prefetchClusterState(ClusterSnapshot snapshot) {}
+
   void printCurrentState(PrintStream out) throws IOException;
 }
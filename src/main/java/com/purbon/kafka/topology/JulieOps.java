@@ -157,7 +157,7 @@ public class JulieOps implements AutoCloseable {
     SchemaRegistryClient schemaRegistryClient =
         new CachedSchemaRegistryClient(
             restService,
-            10,
+            config.getSchemasCacheCapacity(),
             providers,
             schemaRegistryConfig.isEmpty() ? null : schemaRegistryConfig,
             null);
@@ -201,6 +201,17 @@ public class JulieOps implements AutoCloseable {
             "Running topology builder with topicManager=[%s], accessControlManager=[%s], dryRun=[%s], isQuiet=[%s]",
             topicManager, accessControlManager, config.isDryRun(), config.isQuiet()));
 
+    // Fetch the remote state all the managers will need at once, instead of one after the other
+    for (ExecutionPlanUpdater updater :
+        Arrays.asList(
+            topicManager,
+            accessControlManager,
+            connectorManager,
+            kSqlArtefactManager,
+            quotasManager)) {
+      updater.prefetchClusterState(plan.getClusterSnapshot());
+    }
+
     // Create users should always be first, so user exists when making acl link
     for (Topology topology : topologies.values()) {
       principalUpdateManager.updatePlan(topology, plan);
@@ -217,7 +228,7 @@ public class JulieOps implements AutoCloseable {
       principalDeleteManager.updatePlan(topology, plan);
     }
 
-    plan.run(config.isDryRun());
+    plan.run(config.isDryRun(), config.getExecutionParallelism());
 
     if (!config.isQuiet() && !config.isDryRun()) {
       topicManager.printCurrentState(System.out);
@@ -0,0 +1,163 @@
+package com.purbon.kafka.topology;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.CreateArtefactAction;
+import com.purbon.kafka.topology.actions.DeleteArtefactAction;
+import com.purbon.kafka.topology.actions.SyncArtefactAction;
+import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.actions.topics.SchemaRegistrationBatch;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigAction;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the actions of an execution plan on a bounded pool of workers, keeping the dependencies
+ * implied by the order in which the managers add them to the plan.
+ *
+ * <p>Consecutive actions of the same kind form a stage, and every stage waits for the previous
+ * one, so for example all accounts are created before any binding. Topic creation, topic config
+ * updates and schema registration share a single stage. Inside a stage the actions that touch the
+ * same resource run one after the other, in plan order, like the schemas of a topic after its
+ * creation, while actions on unrelated resources run in parallel.
+ *
+ * <p>Schemas registered in a batch are the exception: the first action of the batch registers the
+ * subjects of every topic, so the batch runs in a stage of its own, after all the topics.
+ */
+class ParallelPlanExecutor {
+
+  interface ActionRunner {
+    void run(Action action) throws IOException;
+  }
+
+  private final int parallelism;
+
+  ParallelPlanExecutor(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  void execute(List<Action> actions, ActionRunner runner) throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      for (Map<Object, List<Action>> stage : stages(actions)) {
+        executeStage(executor, stage, runner);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void executeStage(
+      ExecutorService executor, Map<Object, List<Action>> stage, ActionRunner runner)
+      throws IOException {
+    AtomicBoolean failed = new AtomicBoolean(false);
+    List<Future<Void>> futures = new ArrayList<>();
+    for (List<Action> chain : stage.values()) {
+      futures.add(
+          executor.submit(
+              () -> {
+                for (Action action : chain) {
+                  if (failed.get()) {
+                    break;
+                  }
+                  try {
+                    runner.run(action);
+                  } catch (IOException | RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                  }
+                }
+                return null;
+              }));
+    }
+
+    IOException error = null;
+    for (Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        if (error == null) {
+          error =
+              e.getCause() instanceof IOException
+                  ? (IOException) e.getCause()
+                  : new IOException(e.getCause());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+    }
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  static List<Map<Object, List<Action>>> stages(List<Action> actions) {
+    List<Map<Object, List<Action>>> stages = new ArrayList<>();
+    Object currentKind = null;
+    for (Action action : actions) {
+      Object kind = kindOf(action);
+      if (!kind.equals(currentKind)) {
+        stages.add(new LinkedHashMap<>());
+        currentKind = kind;
+      }
+      stages
+          .get(stages.size() - 1)
+          .computeIfAbsent(resourceOf(action), k -> new ArrayList<>())
+          .add(action);
+    }
+    return stages;
+  }
+
+  private static Object kindOf(Action action) {
+    if (isBatchedSchemas(action)) {
+      return SchemaRegistrationBatch.class;
+    }
+    if (action instanceof CreateTopicAction
+        || action instanceof UpdateTopicConfigAction
+        || action instanceof RegisterSchemaAction) {
+      return CreateTopicAction.class;
+    }
+    return action.getClass();
+  }
+
+  /**
+   * Actions with the same resource run one after the other. Actions that can not tell which
+   * resource they touch, and ksql artefacts that might be built on top of each other, are chained
+   * by their kind.
+   */
+  private static Object resourceOf(Action action) {
+    if (isBatchedSchemas(action)) {
+      return kindOf(action);
+    } else if (action instanceof CreateTopicAction) {
+      return ((CreateTopicAction) action).getTopic();
+    } else if (action instanceof UpdateTopicConfigAction) {
+      return ((UpdateTopicConfigAction) action).getTopic();
+    } else if (action instanceof RegisterSchemaAction) {
+      return ((RegisterSchemaAction) action).getTopic();
+    } else if (action instanceof CreateArtefactAction
+        && ((CreateArtefactAction) action).getArtefact() instanceof KafkaConnectArtefact) {
+      return ((CreateArtefactAction) action).getArtefact();
+    } else if (action instanceof SyncArtefactAction
+        && ((SyncArtefactAction) action).getArtefact() instanceof KafkaConnectArtefact) {
+      return ((SyncArtefactAction) action).getArtefact();
+    } else if (action instanceof DeleteArtefactAction
+        && ((DeleteArtefactAction) action).getArtefact() instanceof KafkaConnectArtefact) {
+      return ((DeleteArtefactAction) action).getArtefact();
+    }
+    return kindOf(action);
+  }
+
+  private static boolean isBatchedSchemas(Action action) {
+    return action instanceof RegisterSchemaAction && ((RegisterSchemaAction) action).isBatched();
+  }
+}
@@ -1,20 +1,26 @@
 package com.purbon.kafka.topology;
 
 import com.purbon.kafka.topology.actions.Action;
-import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
 import com.purbon.kafka.topology.actions.topics.DeleteTopics;
 import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.actions.topics.SchemaRegistrationBatch;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
+import com.purbon.kafka.topology.actions.topics.TopicCreationBatch;
 import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigAction;
 import com.purbon.kafka.topology.actions.topics.builders.TopicConfigUpdatePlanBuilder;
+import com.purbon.kafka.topology.api.adminclient.TopicsSnapshot;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.exceptions.RemoteValidationException;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.model.schema.Subject;
+import com.purbon.kafka.topology.model.schema.TopicSchemas;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import com.purbon.kafka.topology.utils.Utils;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -55,6 +61,13 @@ public class TopicManager implements ExecutionPlanUpdater {
     this.managedPrefixes = config.getTopicManagedPrefixes();
   }
 
+  @Override
+  public void prefetchClusterState(ClusterSnapshot snapshot) {
+    if (config.fetchTopicStateFromTheCluster() || shouldDetectDivergences()) {
+      snapshot.prefetch(ClusterSnapshot.TOPICS, adminClient::listApplicationTopics);
+    }
+  }
+
   @Override
   public void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) throws IOException {
 
@@ -62,33 +75,65 @@ public class TopicManager implements ExecutionPlanUpdater {
     Set<String> currentTopics = loadActualClusterStateIfAvailable(plan);
     Map<String, Topic> topics = new HashMap<>();
 
-    Set<Action> createTopicActions = new HashSet<>();
-    Set<Action> updateTopicConfigActions = new HashSet<>();
     for (Topology topology : topologies.values()) {
-      Map<String, Topic> entryTopics = parseMapOfTopics(topology);
-      entryTopics.forEach(
-          (topicName, topic) -> {
-            if (currentTopics.contains(topicName)) {
-              TopicConfigUpdatePlanBuilder builder = new TopicConfigUpdatePlanBuilder(adminClient);
-              TopicConfigUpdatePlan topicConfigUpdatePlan =
-                  builder.createTopicConfigUpdatePlan(topic, topicName);
-              if (topicConfigUpdatePlan.hasConfigChanges()) {
-                updateTopicConfigActions.add(
-                    new UpdateTopicConfigAction(adminClient, topicConfigUpdatePlan));
-              }
-            } else {
-              createTopicActions.add(new CreateTopicAction(adminClient, topic, topicName));
+      topics.putAll(parseMapOfTopics(topology));
+    }
+
+    List<String> existingTopics =
+        topics.keySet().stream().filter(currentTopics::contains).collect(Collectors.toList());
+    TopicsSnapshot snapshot = describeExistingTopics(existingTopics);
+    TopicConfigUpdatePlanBuilder builder = new TopicConfigUpdatePlanBuilder(adminClient, snapshot);
+
+    Set<Action> updateTopicConfigActions = new HashSet<>();
+    List<String> newTopics = new ArrayList<>();
+    topics.forEach(
+        (topicName, topic) -> {
+          if (currentTopics.contains(topicName)) {
+            TopicConfigUpdatePlan topicConfigUpdatePlan =
+                builder.createTopicConfigUpdatePlan(topic, topicName);
+            if (topicConfigUpdatePlan.hasConfigChanges()) {
+              updateTopicConfigActions.add(
+                  new UpdateTopicConfigAction(adminClient, topicConfigUpdatePlan));
             }
-            topics.put(topicName, topic);
-          });
+          } else {
+            newTopics.add(topicName);
+          }
+        });
+
+    List<Action> createTopicActions = new ArrayList<>();
+    for (List<String> chunk : Utils.chunks(newTopics, config.getTopicsCreateBatchSize())) {
+      TopicCreationBatch batch = new TopicCreationBatch(adminClient);
+      chunk.forEach(
+          topicName -> createTopicActions.add(batch.add(topics.get(topicName), topicName)));
     }
 
     createTopicActions.forEach(plan::add); // Do createActions before update actions
     updateTopicConfigActions.forEach(plan::add);
 
-    topics.forEach(
-        (topicName, topic) ->
-            plan.add(new RegisterSchemaAction(schemaRegistryManager, topic, topicName)));
+    int registerParallelism = config.getSchemasRegisterParallelism();
+    SchemaRegistrationBatch schemasBatch =
+        registerParallelism > 1
+            ? new SchemaRegistrationBatch(schemaRegistryManager, registerParallelism)
+            : null;
+    Set<String> subjects = new HashSet<>();
+    for (Map.Entry<String, Topic> entry : topics.entrySet()) {
+      String topicName = entry.getKey();
+      Topic topic = entry.getValue();
+      subjects.addAll(subjectNames(topic));
+      Map<String, String> changedSubjects = null;
+      if (config.isSchemasSkipUnchanged()) {
+        changedSubjects = changedSubjects(topic, plan.getSchemas());
+        if (changedSubjects.isEmpty()) {
+          continue;
+        }
+      }
+      plan.add(
+          schemasBatch != null
+              ? schemasBatch.add(topic, topicName, changedSubjects)
+              : new RegisterSchemaAction(schemaRegistryManager, topic, topicName, changedSubjects));
+    }
+    // the subjects removed from the topology would otherwise stay in the state forever
+    plan.retainSchemas(subjects);
 
     if (config.isAllowDeleteTopics()) {
       // Handle topic delete: Topics in the initial list, but not present anymore after a
@@ -105,6 +150,56 @@ public class TopicManager implements ExecutionPlanUpdater {
     }
   }
 
+  /**
+   * Return the fingerprint of each subject of the topic whose schema or compatibility differs from
+   * the one last registered. Subjects that can not be fingerprinted are always returned, without
+   * fingerprint.
+   */
+  private Map<String, String> changedSubjects(Topic topic, Map<String, String> registered)
+      throws IOException {
+    Map<String, String> changedSubjects = new HashMap<>();
+    for (TopicSchemas schemas : topic.getSchemas()) {
+      for (Subject subject : Arrays.asList(schemas.getKeySubject(), schemas.getValueSubject())) {
+        if (!subject.hasSchemaFile()) {
+          continue;
+        }
+        String subjectName = subject.buildSubjectName(topic);
+        String fingerprint =
+            schemaRegistryManager
+                .fingerprint(
+                    subjectName,
+                    subject.getSchemaFile(),
+                    subject.getFormat(),
+                    subject.getOptionalCompatibility())
+                .orElse(null);
+        if (fingerprint == null || !fingerprint.equals(registered.get(subjectName))) {
+          changedSubjects.put(subjectName, fingerprint);
+        }
+      }
+    }
+    return changedSubjects;
+  }
+
+  private Set<String> subjectNames(Topic topic) throws IOException {
+    Set<String> subjectNames = new HashSet<>();
+    for (TopicSchemas schemas : topic.getSchemas()) {
+      for (Subject subject : Arrays.asList(schemas.getKeySubject(), schemas.getValueSubject())) {
+        if (subject.hasSchemaFile()) {
+          subjectNames.add(subject.buildSubjectName(topic));
+        }
+      }
+    }
+    return subjectNames;
+  }
+
+  private TopicsSnapshot describeExistingTopics(List<String> existingTopics) throws IOException {
+    if (existingTopics.isEmpty()) {
+      return TopicsSnapshot.empty();
+    }
+    LOGGER.debug(String.format("Describing %d existing topics", existingTopics.size()));
+    return adminClient.describeTopics(existingTopics, config.getTopicsDescribeBatchSize());
+  }
+
   private Map<String, Topic> parseMapOfTopics(Topology topology) {
     Stream<Topic> topics =
         topology.getProjects().stream()
@@ -125,7 +220,7 @@ public class TopicManager implements ExecutionPlanUpdater {
   private Set<String> loadActualClusterStateIfAvailable(ExecutionPlan plan) throws IOException {
     Set<String> listOfTopics =
         config.fetchTopicStateFromTheCluster()
-            ? adminClient.listApplicationTopics()
+            ? clusterTopics(plan)
             : plan.getTopics();
 
     listOfTopics =
@@ -147,12 +242,23 @@ public class TopicManager implements ExecutionPlanUpdater {
     return listOfTopics;
   }
 
+  private Set<String> clusterTopics(ExecutionPlan plan) throws IOException {
+    return plan.getClusterSnapshot()
+        .get(ClusterSnapshot.TOPICS, adminClient::listApplicationTopics);
+  }
+
+  private boolean shouldDetectDivergences() {
+    return config.shouldVerifyRemoteState()
+        && !config.fetchStateFromTheCluster()
+        && config.isAllowDeleteTopics();
+  }
+
   private void detectDivergencesInTheRemoteCluster(ExecutionPlan plan) throws IOException {
     if (!config.isAllowDeleteTopics()) {
       /* Assume topics are cleaned up by mechanisms outside JulieOps, and do not fail. */
       return;
     }
-    Set<String> remoteTopics = adminClient.listApplicationTopics();
+    Set<String> remoteTopics = clusterTopics(plan);
     List<String> delta =
         plan.getTopics().stream()
             .filter(localTopic -> !remoteTopics.contains(localTopic))
@@ -11,9 +11,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 public final class TopologyObjectBuilder {
@@ -85,34 +88,60 @@ public final class TopologyObjectBuilder {
   }
 
   private static List<Topology> parseListOfTopologies(
-      String fileOrDir, Configuration config, PlanMap plans) {
+      String fileOrDir, Configuration config, PlanMap plans) throws IOException {
     TopologySerdes parser = new TopologySerdes(config, plans);
-    List<Topology> topologies = new ArrayList<>();
     final Path path = Paths.get(fileOrDir);
     if (Files.isDirectory(path)) {
-      loadFromDirectory(path, config.isRecursive(), parser, topologies);
+      List<Path> files = new ArrayList<>();
+      listFromDirectory(path, config.isRecursive(), files);
+      return parseFiles(files, parser, config.getTopologyParseParallelism());
     } else {
-      topologies.add(parser.deserialise(new File(fileOrDir)));
+      return Collections.singletonList(parser.deserialise(new File(fileOrDir)));
     }
-    return topologies;
   }
 
-  private static void loadFromDirectory(
-      final Path directory,
-      final boolean recursive,
-      final TopologySerdes parser,
-      final List<Topology> topologies) {
-    try {
-      Files.list(directory)
-          .sorted()
-          .filter(p -> !Files.isDirectory(p))
+  /**
+   * Parse the given files, keeping their order in the result. With a parallelism bigger than one
+   * the files are parsed concurrently on a dedicated fork join pool.
+   */
+  private static List<Topology> parseFiles(
+      List<Path> files, TopologySerdes parser, int parallelism) throws IOException {
+    if (parallelism <= 1 || files.size() <= 1) {
+      return files.stream()
           .map(path -> parser.deserialise(path.toFile()))
-          .forEach(topologies::add);
+          .collect(Collectors.toList());
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return pool.submit(
+              () ->
+                  files.parallelStream()
+                      .map(path -> parser.deserialise(path.toFile()))
+                      .collect(Collectors.toList()))
+          .get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static void listFromDirectory(
+      final Path directory, final boolean recursive, final List<Path> files) {
+    try {
+      Files.list(directory).sorted().filter(p -> !Files.isDirectory(p)).forEach(files::add);
       if (recursive) {
         Files.list(directory)
             .sorted()
             .filter(Files::isDirectory)
-            .forEach(p -> loadFromDirectory(p, recursive, parser, topologies));
+            .forEach(p -> listFromDirectory(p, recursive, files));
       }
     } catch (final IOException e) {
       throw new RuntimeException(e);
@@ -4,9 +4,9 @@ import static com.purbon.kafka.topology.utils.Utils.filePath;
 
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.ArtefactIndex;
 import com.purbon.kafka.topology.utils.Utils;
 import java.io.IOException;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -21,13 +21,10 @@ public class CreateArtefactAction extends BaseAction {
   private final ArtefactClient client;
   private final Artefact artefact;
   private final String rootPath;
-  private final Collection<? extends Artefact> artefacts;
+  private final ArtefactIndex artefacts;
 
   public CreateArtefactAction(
-      ArtefactClient client,
-      String rootPath,
-      Collection<? extends Artefact> artefacts,
-      Artefact artefact) {
+      ArtefactClient client, String rootPath, ArtefactIndex artefacts, Artefact artefact) {
     this.client = client;
     this.artefact = artefact;
     this.artefacts = artefacts;
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -19,12 +20,22 @@ public class CreateTopicAction extends BaseAction {
   private final Topic topic;
   private final String fullTopicName;
   private final TopologyBuilderAdminClient adminClient;
+  private final TopicCreationBatch batch;
 
   public CreateTopicAction(
       TopologyBuilderAdminClient adminClient, Topic topic, String fullTopicName) {
+    this(adminClient, topic, fullTopicName, null);
+  }
+
+  public CreateTopicAction(
+      TopologyBuilderAdminClient adminClient,
+      Topic topic,
+      String fullTopicName,
+      TopicCreationBatch batch) {
     this.topic = topic;
     this.fullTopicName = fullTopicName;
     this.adminClient = adminClient;
+    this.batch = batch;
   }
 
   public String getTopic() {
@@ -38,7 +49,14 @@ public class CreateTopicAction extends BaseAction {
 
   private void createTopic(Topic topic, String fullTopicName) throws IOException {
     LOGGER.debug(String.format("Create new topic with name %s", fullTopicName));
-    adminClient.createTopic(topic, fullTopicName);
+    if (batch == null) {
+      adminClient.createTopic(topic, fullTopicName);
+      return;
+    }
+    Optional<Throwable> error = batch.create(fullTopicName);
+    if (error.isPresent()) {
+      throw new IOException(error.get());
+    }
   }
 
   @Override
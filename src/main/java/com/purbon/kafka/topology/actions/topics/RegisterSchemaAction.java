@@ -4,6 +4,7 @@ import com.purbon.kafka.topology.actions.BaseAction;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.schema.Subject;
 import com.purbon.kafka.topology.model.schema.TopicSchemas;
+import com.purbon.kafka.topology.schemas.SchemaRegistration;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
 import java.io.IOException;
 import java.util.*;
@@ -19,18 +20,63 @@ public class RegisterSchemaAction extends BaseAction {
   private final Topic topic;
   private final String fullTopicName;
   private final SchemaRegistryManager schemaRegistryManager;
+  private final Map<String, String> fingerprints;
+  private final SchemaRegistrationBatch batch;
 
   public RegisterSchemaAction(
       SchemaRegistryManager schemaRegistryManager, Topic topic, String fullTopicName) {
+    this(schemaRegistryManager, topic, fullTopicName, null);
+  }
+
+  /**
+   * Register only the subjects of the topic listed in the given fingerprints, the fingerprints are
+   * recorded in the state once the schemas have been registered. A subject without fingerprint is
+   * registered but not recorded, so it is registered again on the next run.
+   */
+  public RegisterSchemaAction(
+      SchemaRegistryManager schemaRegistryManager,
+      Topic topic,
+      String fullTopicName,
+      Map<String, String> fingerprints) {
+    this(schemaRegistryManager, topic, fullTopicName, fingerprints, null);
+  }
+
+  public RegisterSchemaAction(
+      SchemaRegistryManager schemaRegistryManager,
+      Topic topic,
+      String fullTopicName,
+      Map<String, String> fingerprints,
+      SchemaRegistrationBatch batch) {
     this.topic = topic;
     this.fullTopicName = fullTopicName;
     this.schemaRegistryManager = schemaRegistryManager;
+    this.fingerprints = fingerprints;
+    this.batch = batch;
   }
 
   public String getTopic() {
     return fullTopicName;
   }
 
+  /** Tell if the subjects are registered together with the other actions of a batch. */
+  public boolean isBatched() {
+    return batch != null;
+  }
+
+  public Map<String, String> getFingerprints() {
+    if (fingerprints == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, String> recorded = new HashMap<>();
+    fingerprints.forEach(
+        (subjectName, fingerprint) -> {
+          if (fingerprint != null) {
+            recorded.put(subjectName, fingerprint);
+          }
+        });
+    return recorded;
+  }
+
   @Override
   public void run() throws IOException {
     registerSchemas(topic, fullTopicName);
@@ -39,21 +85,66 @@ public class RegisterSchemaAction extends BaseAction {
   private void registerSchemas(Topic topic, String fullTopicName) throws IOException {
     LOGGER.debug(String.format("Register schemas for topic %s", fullTopicName));
 
+    List<SchemaRegistration> registrations = registrations();
+    if (batch == null) {
+      for (SchemaRegistration registration : registrations) {
+        schemaRegistryManager.register(
+            registration.getSubjectName(), registration.getSchemaFile(), registration.getFormat());
+        setCompatibility(registration.getSubjectName(), registration.getCompatibility());
+      }
+      return;
+    }
+
+    Map<String, Throwable> errors = batch.register();
+    Map<String, Throwable> failures = new LinkedHashMap<>();
+    for (SchemaRegistration registration : registrations) {
+      String subjectName = registration.getSubjectName();
+      if (errors.containsKey(subjectName)) {
+        failures.put(subjectName, errors.get(subjectName));
+      }
+    }
+    if (!failures.isEmpty()) {
+      Iterator<Throwable> causes = failures.values().iterator();
+      IOException error =
+          new IOException(
+              String.format(
+                  "Failed to register the schemas of subjects %s for topic %s",
+                  failures.keySet(), fullTopicName),
+              causes.next());
+      causes.forEachRemaining(error::addSuppressed);
+      throw error;
+    }
+  }
+
+  /** The subjects of the topic this action registers, in order. */
+  List<SchemaRegistration> registrations() throws IOException {
+    List<SchemaRegistration> registrations = new ArrayList<>();
     for (TopicSchemas schema : topic.getSchemas()) {
-      registerSchemaIfExists(schema.getKeySubject(), topic);
-      registerSchemaIfExists(schema.getValueSubject(), topic);
+      addRegistrationIfExists(registrations, schema.getKeySubject());
+      addRegistrationIfExists(registrations, schema.getValueSubject());
     }
+    return registrations;
   }
 
-  private void registerSchemaIfExists(Subject subject, Topic topic) throws IOException {
+  private void addRegistrationIfExists(List<SchemaRegistration> registrations, Subject subject)
+      throws IOException {
     if (subject.hasSchemaFile()) {
-      String keySchemaFile = subject.getSchemaFile();
       String subjectName = subject.buildSubjectName(topic);
-      schemaRegistryManager.register(subjectName, keySchemaFile, subject.getFormat());
-      setCompatibility(subjectName, subject.getOptionalCompatibility());
+      if (isIncluded(subjectName)) {
+        registrations.add(
+            new SchemaRegistration(
+                subjectName,
+                subject.getSchemaFile(),
+                subject.getFormat(),
+                subject.getOptionalCompatibility()));
+      }
     }
   }
 
+  private boolean isIncluded(String subjectName) {
+    return fingerprints == null || fingerprints.containsKey(subjectName);
+  }
+
   private void setCompatibility(String subjectName, Optional<String> compatibilityOptional) {
     compatibilityOptional.ifPresent(
         compatibility -> schemaRegistryManager.setCompatibility(subjectName, compatibility));
@@ -111,7 +202,10 @@ public class RegisterSchemaAction extends BaseAction {
   private void addSubjectIfExists(Map<String, String> schemas, Subject subject) {
     if (subject.hasSchemaFile()) {
       try {
-        schemas.put(subject.buildSubjectName(topic), subject.getSchemaFile());
+        String subjectName = subject.buildSubjectName(topic);
+        if (isIncluded(subjectName)) {
+          schemas.put(subjectName, subject.getSchemaFile());
+        }
       } catch (IOException e) {
         LOGGER.warn("Error building subject name", e);
       }
@@ -0,0 +1,59 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import com.purbon.kafka.topology.model.Topic;
+import com.purbon.kafka.topology.schemas.SchemaRegistration;
+import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Group of subjects registered together on a bounded pool. The subjects of every topic in the
+ * batch are registered the first time one of the {@link RegisterSchemaAction} in the batch runs,
+ * the result of each subject is kept apart so every action can report the outcome of its own
+ * subjects. The actions of a batch must therefore only run once every topic of the batch exists.
+ */
+public class SchemaRegistrationBatch {
+
+  private static final Logger LOGGER = LogManager.getLogger(SchemaRegistrationBatch.class);
+
+  private final SchemaRegistryManager schemaRegistryManager;
+  private final int parallelism;
+  private final List<RegisterSchemaAction> actions;
+  private Map<String, Throwable> errors;
+
+  public SchemaRegistrationBatch(SchemaRegistryManager schemaRegistryManager, int parallelism) {
+    this.schemaRegistryManager = schemaRegistryManager;
+    this.parallelism = parallelism;
+    this.actions = new ArrayList<>();
+    this.errors = null;
+  }
+
+  public RegisterSchemaAction add(
+      Topic topic, String fullTopicName, Map<String, String> fingerprints) {
+    RegisterSchemaAction action =
+        new RegisterSchemaAction(schemaRegistryManager, topic, fullTopicName, fingerprints, this);
+    actions.add(action);
+    return action;
+  }
+
+  synchronized Map<String, Throwable> register() {
+    if (errors == null) {
+      List<SchemaRegistration> registrations = new ArrayList<>();
+      for (RegisterSchemaAction action : actions) {
+        try {
+          registrations.addAll(action.registrations());
+        } catch (IOException e) {
+          // the action reports the same error when it runs
+          LOGGER.debug(String.format("Skip the schemas of topic %s", action.getTopic()), e);
+        }
+      }
+      LOGGER.debug(String.format("Register a batch of %d subjects", registrations.size()));
+      errors = schemaRegistryManager.register(registrations, parallelism);
+    }
+    return errors;
+  }
+}
@@ -0,0 +1,42 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Topic;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Group of topics created with a single CreateTopics request. The request is sent the first time
+ * one of the {@link CreateTopicAction} in the batch runs, the result of each topic is kept apart
+ * so every action can report its own outcome.
+ */
+public class TopicCreationBatch {
+
+  private static final Logger LOGGER = LogManager.getLogger(TopicCreationBatch.class);
+
+  private final TopologyBuilderAdminClient adminClient;
+  private final Map<String, Topic> topics;
+  private Map<String, Throwable> errors;
+
+  public TopicCreationBatch(TopologyBuilderAdminClient adminClient) {
+    this.adminClient = adminClient;
+    this.topics = new LinkedHashMap<>();
+    this.errors = null;
+  }
+
+  public CreateTopicAction add(Topic topic, String fullTopicName) {
+    topics.put(fullTopicName, topic);
+    return new CreateTopicAction(adminClient, topic, fullTopicName, this);
+  }
+
+  public synchronized Optional<Throwable> create(String fullTopicName) {
+    if (errors == null) {
+      LOGGER.debug(String.format("Create a batch of %d new topics", topics.size()));
+      errors = adminClient.createTopics(topics);
+    }
+    return Optional.ofNullable(errors.get(fullTopicName));
+  }
+}
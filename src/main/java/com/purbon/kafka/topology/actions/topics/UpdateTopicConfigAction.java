@@ -26,6 +26,10 @@ public class UpdateTopicConfigAction extends BaseAction {
     this.adminClient = adminClient;
   }
 
+  public String getTopic() {
+    return topicConfigUpdatePlan.getFullTopicName();
+  }
+
   @Override
   public void run() throws IOException {
     final Topic topic = topicConfigUpdatePlan.getTopic();
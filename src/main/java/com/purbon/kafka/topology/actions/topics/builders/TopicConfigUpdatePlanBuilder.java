@@ -1,6 +1,7 @@
 package com.purbon.kafka.topology.actions.topics.builders;
 
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
+import com.purbon.kafka.topology.api.adminclient.TopicsSnapshot;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topic;
 import java.io.IOException;
@@ -9,24 +10,27 @@ import org.apache.kafka.clients.admin.Config;
 
 public class TopicConfigUpdatePlanBuilder {
 
-  private TopologyBuilderAdminClient adminClient;
+  private final TopologyBuilderAdminClient adminClient;
+  private final TopicsSnapshot snapshot;
 
   public TopicConfigUpdatePlanBuilder(TopologyBuilderAdminClient adminClient) {
+    this(adminClient, TopicsSnapshot.empty());
+  }
+
+  public TopicConfigUpdatePlanBuilder(
+      TopologyBuilderAdminClient adminClient, TopicsSnapshot snapshot) {
     this.adminClient = adminClient;
+    this.snapshot = snapshot;
   }
 
   public TopicConfigUpdatePlan createTopicConfigUpdatePlan(Topic topic, String fullTopicName) {
 
-    Config currentKafkaConfigs = adminClient.getActualTopicConfig(fullTopicName);
+    Config currentKafkaConfigs = getActualTopicConfig(fullTopicName);
 
     TopicConfigUpdatePlan topicConfigUpdatePlan = new TopicConfigUpdatePlan(topic);
 
-    try {
-      if (topic.partitionsCount() > adminClient.getPartitionCount(fullTopicName)) {
-        topicConfigUpdatePlan.setUpdatePartitionCount(true);
-      }
-    } catch (IOException e) {
-      throw new RuntimeException("Failed to get partition count for topic " + fullTopicName, e);
+    if (topic.partitionsCount() > getPartitionCount(fullTopicName)) {
+      topicConfigUpdatePlan.setUpdatePartitionCount(true);
     }
 
     HashMap<String, String> topicConfigs = topic.getRawConfig();
@@ -36,4 +40,22 @@ public class TopicConfigUpdatePlanBuilder {
 
     return topicConfigUpdatePlan;
   }
+
+  private Config getActualTopicConfig(String fullTopicName) {
+    return snapshot
+        .getConfig(fullTopicName)
+        .orElseGet(() -> adminClient.getActualTopicConfig(fullTopicName));
+  }
+
+  private int getPartitionCount(String fullTopicName) {
+    var partitionCount = snapshot.getPartitionCount(fullTopicName);
+    if (partitionCount.isPresent()) {
+      return partitionCount.get();
+    }
+    try {
+      return adminClient.getPartitionCount(fullTopicName);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to get partition count for topic " + fullTopicName, e);
+    }
+  }
 }
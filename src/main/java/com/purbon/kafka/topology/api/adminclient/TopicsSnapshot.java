@@ -0,0 +1,33 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.kafka.clients.admin.Config;
+
+/**
+ * Point in time view of the configuration and partition count of a set of topics, as fetched in
+ * bulk from the cluster.
+ */
+public class TopicsSnapshot {
+
+  private final Map<String, Config> configs;
+  private final Map<String, Integer> partitionCounts;
+
+  public TopicsSnapshot(Map<String, Config> configs, Map<String, Integer> partitionCounts) {
+    this.configs = configs;
+    this.partitionCounts = partitionCounts;
+  }
+
+  public static TopicsSnapshot empty() {
+    return new TopicsSnapshot(Collections.emptyMap(), Collections.emptyMap());
+  }
+
+  public Optional<Config> getConfig(String topic) {
+    return Optional.ofNullable(configs.get(topic));
+  }
+
+  public Optional<Integer> getPartitionCount(String topic) {
+    return Optional.ofNullable(partitionCounts.get(topic));
+  }
+}
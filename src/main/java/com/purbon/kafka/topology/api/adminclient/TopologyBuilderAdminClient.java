@@ -6,6 +6,7 @@ import com.purbon.kafka.topology.model.User;
 import com.purbon.kafka.topology.model.users.Quota;
 import com.purbon.kafka.topology.quotas.QuotasClientBindingsBuilder;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.Utils;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
@@ -15,10 +16,12 @@ import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigOp.OpType;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -137,6 +140,56 @@ public class TopologyBuilderAdminClient {
     Collection<AclBindingFilter> filters = new ArrayList<>();
 
     LOGGER.debug("clearAcl = " + aclBinding);
+    filters.add(asAclBindingFilter(aclBinding));
+    clearAcls(filters);
+  }
+
+  /**
+   * Delete a collection of acl bindings. Each chunk of batchSize bindings is sent as a single
+   * DeleteAcls request with one filter per binding, all chunks are sent before waiting for any of
+   * the responses.
+   *
+   * @param aclBindings the bindings to be deleted
+   * @param batchSize max number of filters per DeleteAcls request
+   * @return the error raised for each binding that could not be deleted
+   */
+  public Map<TopologyAclBinding, Throwable> clearAcls(
+      Collection<TopologyAclBinding> aclBindings, int batchSize) {
+    Map<TopologyAclBinding, AclBindingFilter> filters = new LinkedHashMap<>();
+    aclBindings.forEach(binding -> filters.put(binding, asAclBindingFilter(binding)));
+
+    Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results = new HashMap<>();
+    List<List<AclBindingFilter>> chunks =
+        Utils.chunks(new LinkedHashSet<>(filters.values()), batchSize);
+    for (List<AclBindingFilter> chunk : chunks) {
+      results.putAll(adminClient.deleteAcls(chunk).values());
+    }
+
+    Map<TopologyAclBinding, Throwable> errors = new HashMap<>();
+    filters.forEach(
+        (binding, filter) -> {
+          try {
+            // a filter can succeed as a whole and still fail to delete some of its bindings
+            for (DeleteAclsResult.FilterResult result : results.get(filter).get().values()) {
+              if (result.exception() != null) {
+                throw new ExecutionException(result.exception());
+              }
+            }
+          } catch (ExecutionException e) {
+            LOGGER.error("Failed to delete acl " + binding, e);
+            errors.put(binding, e.getCause());
+          } catch (InterruptedException e) {
+            LOGGER.error(e);
+            errors.put(binding, e);
+          }
+        });
+    LOGGER.debug(
+        String.format(
+            "Deleted %d acls using %d batched requests", aclBindings.size(), chunks.size()));
+    return errors;
+  }
+
+  private AclBindingFilter asAclBindingFilter(TopologyAclBinding aclBinding) {
     ResourcePatternFilter resourceFilter =
         new ResourcePatternFilter(
             ResourceType.valueOf(aclBinding.getResourceType()),
@@ -150,9 +203,7 @@ public class TopologyBuilderAdminClient {
             AclOperation.valueOf(aclBinding.getOperation()),
             AclPermissionType.ANY);
 
-    AclBindingFilter filter = new AclBindingFilter(resourceFilter, accessControlEntryFilter);
-    filters.add(filter);
-    clearAcls(filters);
+    return new AclBindingFilter(resourceFilter, accessControlEntryFilter);
   }
 
   private void clearAcls(Collection<AclBindingFilter> filters) throws IOException {
@@ -179,10 +230,58 @@ public class TopologyBuilderAdminClient {
     return configs.get(resource);
   }
 
+  /**
+   * Describe the configuration and partition count of a collection of topics. Topics are split in
+   * chunks of batchSize, all requests are sent before waiting for any response so the AdminClient
+   * can pipeline them.
+   *
+   * @param topics the list of topics to describe
+   * @param batchSize max number of topics per describeConfigs/describeTopics request
+   * @return a snapshot with the current state of the requested topics
+   * @throws IOException if any of the describe requests fail
+   */
+  public TopicsSnapshot describeTopics(Collection<String> topics, int batchSize)
+      throws IOException {
+    Map<String, Config> configs = new HashMap<>();
+    Map<String, Integer> partitionCounts = new HashMap<>();
+    if (topics.isEmpty()) {
+      return new TopicsSnapshot(configs, partitionCounts);
+    }
+
+    List<KafkaFuture<Map<ConfigResource, Config>>> configFutures = new ArrayList<>();
+    List<KafkaFuture<Map<String, TopicDescription>>> descriptionFutures = new ArrayList<>();
+    for (List<String> chunk : Utils.chunks(topics, batchSize)) {
+      List<ConfigResource> resources =
+          chunk.stream()
+              .map(topic -> new ConfigResource(Type.TOPIC, topic))
+              .collect(Collectors.toList());
+      configFutures.add(adminClient.describeConfigs(resources).all());
+      descriptionFutures.add(adminClient.describeTopics(chunk).allTopicNames());
+    }
+
+    try {
+      for (KafkaFuture<Map<ConfigResource, Config>> future : configFutures) {
+        future.get().forEach((resource, config) -> configs.put(resource.name(), config));
+      }
+      for (KafkaFuture<Map<String, TopicDescription>> future : descriptionFutures) {
+        future
+            .get()
+            .forEach(
+                (topic, description) ->
+                    partitionCounts.put(topic, description.partitions().size()));
+      }
+    } catch (InterruptedException | ExecutionException e) {
+      LOGGER.error(e);
+      throw new IOException(e);
+    }
+    LOGGER.debug(
+        String.format(
+            "Described %d topics using %d batched requests", topics.size(), configFutures.size()));
+    return new TopicsSnapshot(configs, partitionCounts);
+  }
+
   public void createTopic(Topic topic, String fullTopicName) throws IOException {
-    NewTopic newTopic =
-        new NewTopic(fullTopicName, topic.getPartitionCount(), topic.replicationFactor())
-            .configs(topic.getRawConfig());
+    NewTopic newTopic = newTopic(topic, fullTopicName);
     try {
       createAllTopics(Collections.singleton(newTopic));
     } catch (ExecutionException | InterruptedException e) {
@@ -200,6 +299,47 @@ public class TopologyBuilderAdminClient {
     createTopic(topic, topicName);
   }
 
+  /**
+   * Create a group of topics with a single CreateTopics request.
+   *
+   * @param topics the topics to be created, indexed by full topic name
+   * @return the error raised for each topic that could not be created, topics that already exist
+   *     are not reported as errors
+   */
+  public Map<String, Throwable> createTopics(Map<String, Topic> topics) {
+    List<NewTopic> newTopics =
+        topics.entrySet().stream()
+            .map(entry -> newTopic(entry.getValue(), entry.getKey()))
+            .collect(Collectors.toList());
+
+    Map<String, Throwable> errors = new HashMap<>();
+    adminClient
+        .createTopics(newTopics)
+        .values()
+        .forEach(
+            (topicName, future) -> {
+              try {
+                future.get();
+              } catch (ExecutionException e) {
+                if (e.getCause() instanceof TopicExistsException) {
+                  LOGGER.info(e.getMessage());
+                } else {
+                  LOGGER.error("Failed to create topic " + topicName, e);
+                  errors.put(topicName, e.getCause());
+                }
+              } catch (InterruptedException e) {
+                LOGGER.error(e);
+                errors.put(topicName, e);
+              }
+            });
+    return errors;
+  }
+
+  private NewTopic newTopic(Topic topic, String fullTopicName) {
+    return new NewTopic(fullTopicName, topic.getPartitionCount(), topic.replicationFactor())
+        .configs(topic.getRawConfig());
+  }
+
   private void createAllTopics(Collection<NewTopic> newTopics)
       throws ExecutionException, InterruptedException {
     adminClient.createTopics(newTopics).all().get();
@@ -220,14 +360,11 @@ public class TopologyBuilderAdminClient {
     try {
       Collection<AclBinding> list = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
       list.forEach(
-          aclBinding -> {
-            String name = aclBinding.pattern().name();
-            acls.computeIfAbsent(name, k -> new ArrayList<>());
-            Collection<AclBinding> updatedList = acls.get(name);
-            updatedList.add(aclBinding);
-            acls.put(name, updatedList);
-          });
+          aclBinding ->
+              acls.computeIfAbsent(aclBinding.pattern().name(), k -> new ArrayList<>())
+                  .add(aclBinding));
     } catch (Exception e) {
+      LOGGER.error(e);
       return new HashMap<>();
     }
     return acls;
@@ -2,6 +2,7 @@ package com.purbon.kafka.topology.api.ccloud;
 
 import static com.purbon.kafka.topology.Constants.MANAGED_BY;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.ccloud.requests.KafkaAclRequest;
 import com.purbon.kafka.topology.api.ccloud.requests.ServiceAccountRequest;
@@ -21,6 +22,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,7 +44,10 @@ public class CCloudApi {
   private int serviceAccountPageSize;
 
   public CCloudApi(String baseServerUrl, Configuration config) throws IOException {
-    this(new JulieHttpClient(baseServerUrl, Optional.of(config)), Optional.empty(), config);
+    this(
+        new JulieHttpClient(baseServerUrl, Optional.of(config), "ccloud"),
+        Optional.empty(),
+        config);
   }
 
   public CCloudApi(
@@ -53,7 +58,7 @@ public class CCloudApi {
     this.clusterHttpClient = clusterHttpClient;
     this.ccloudApiHttpClient =
         ccloudApiHttpClientOptional.orElse(
-            new JulieHttpClient(ccloudApiBaseUrl, Optional.of(config)));
+            new JulieHttpClient(ccloudApiBaseUrl, Optional.of(config), "ccloud"));
     this.clusterHttpClient.setBasicAuth(config.getConfluentCloudClusterAuth());
     this.ccloudApiHttpClient.setBasicAuth(config.getConfluentCloudCloudApiAuth());
 
@@ -67,12 +72,29 @@ public class CCloudApi {
     clusterHttpClient.doPost(url, JSON.asString(request));
   }
 
+  public CompletableFuture<String> createAclAsync(String clusterId, TopologyAclBinding binding) {
+    String url = String.format(V3_KAFKA_CLUSTER_ACL_PATTERN, clusterId);
+    var request =
+        new KafkaAclRequest(binding, String.format("%s%s", clusterHttpClient.baseUrl(), url));
+    try {
+      return clusterHttpClient.doPostAsync(url, JSON.asString(request));
+    } catch (JsonProcessingException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   public void deleteAcls(String clusterId, TopologyAclBinding binding) throws IOException {
     String url = String.format(V3_KAFKA_CLUSTER_ACL_PATTERN, clusterId);
     KafkaAclRequest request = new KafkaAclRequest(binding, url);
     clusterHttpClient.doDelete(request.deleteUrl());
   }
 
+  public CompletableFuture<String> deleteAclsAsync(String clusterId, TopologyAclBinding binding) {
+    String url = String.format(V3_KAFKA_CLUSTER_ACL_PATTERN, clusterId);
+    KafkaAclRequest request = new KafkaAclRequest(binding, url);
+    return clusterHttpClient.doDeleteAsync(request.deleteUrl(), "");
+  }
+
   public List<TopologyAclBinding> listAcls(String clusterId) throws IOException {
     String url = String.format(V3_KAFKA_CLUSTER_ACL_PATTERN, clusterId);
     List<TopologyAclBinding> acls = new ArrayList<>();
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.SneakyThrows;
 
@@ -23,6 +24,7 @@ public class ClusterIDs implements Cloneable {
   public static String KSQL_CLUSTER_ID_LABEL = "ksql-cluster";
 
   private Map<String, String> clusterIds;
+  private ClusterScopes scopes;
 
   public ClusterIDs() {
     this(Optional.empty());
@@ -46,62 +48,84 @@ public class ClusterIDs implements Cloneable {
     return clusters;
   }
 
-  public ClusterIDs clear() {
+  /**
+   * Return the immutable scopes of every component for the current cluster ids. They are computed
+   * once, and again only after one of the ids changes.
+   */
+  public synchronized ClusterScopes scopes() {
+    if (scopes == null) {
+      scopes =
+          new ClusterScopes(
+              kafkaClusterID, schemaRegistryClusterID, connectClusterID, ksqlClusterID);
+    }
+    return scopes;
+  }
+
+  public synchronized ClusterIDs clear() {
     this.clusterIds.clear();
     return this;
   }
 
-  public ClusterIDs forKafka() {
+  public synchronized ClusterIDs forKafka() {
     clusterIds.put(KAFKA_CLUSTER_ID_LABEL, kafkaClusterID);
     return this;
   }
 
-  public ClusterIDs forKafkaConnect() {
+  public synchronized ClusterIDs forKafkaConnect() {
     clusterIds.put(CONNECT_CLUSTER_ID_LABEL, connectClusterID);
     return this;
   }
 
-  public ClusterIDs forSchemaRegistry() {
+  public synchronized ClusterIDs forSchemaRegistry() {
     clusterIds.put(SCHEMA_REGISTRY_CLUSTER_ID_LABEL, schemaRegistryClusterID);
     return this;
   }
 
-  public ClusterIDs forKsql() {
+  public synchronized ClusterIDs forKsql() {
     clusterIds.put(KSQL_CLUSTER_ID_LABEL, ksqlClusterID);
     return this;
   }
 
-  public Map<String, Map<String, String>> asMap() {
+  public synchronized Map<String, Map<String, String>> asMap() {
     Map<String, Map<String, String>> clusters = new HashMap<>();
-    clusters.put("clusters", clusterIds);
+    clusters.put("clusters", new HashMap<>(clusterIds));
     return clusters;
   }
 
   @SneakyThrows
-  public void setKafkaClusterId(String clusterId) {
+  public synchronized void setKafkaClusterId(String clusterId) {
     if (!isItValidId(clusterId)) {
       throw new ValidationException(
           "Kafka clusterId: " + clusterId + " is it not valid. Check your config!");
     }
-    this.kafkaClusterID = clusterId;
+    if (!Objects.equals(this.kafkaClusterID, clusterId)) {
+      this.kafkaClusterID = clusterId;
+      this.scopes = null;
+    }
   }
 
   @SneakyThrows
-  public void setSchemaRegistryClusterID(String clusterId) {
+  public synchronized void setSchemaRegistryClusterID(String clusterId) {
     if (!isItValidId(clusterId)) {
       throw new ValidationException(
           "Schema Registry clusterId: " + clusterId + " is it not valid. Check your config!");
     }
-    this.schemaRegistryClusterID = clusterId;
+    if (!Objects.equals(this.schemaRegistryClusterID, clusterId)) {
+      this.schemaRegistryClusterID = clusterId;
+      this.scopes = null;
+    }
   }
 
   @SneakyThrows
-  public void setConnectClusterID(String clusterId) {
+  public synchronized void setConnectClusterID(String clusterId) {
     if (!isItValidId(clusterId)) {
       throw new ValidationException(
           "Kafka Connect clusterId: " + clusterId + " is it not valid. Check your config!");
     }
-    this.connectClusterID = clusterId;
+    if (!Objects.equals(this.connectClusterID, clusterId)) {
+      this.connectClusterID = clusterId;
+      this.scopes = null;
+    }
   }
 
   public ClusterIDs clone() {
@@ -114,12 +138,15 @@ public class ClusterIDs implements Cloneable {
   }
 
   @SneakyThrows
-  public void setKsqlClusterID(String clusterId) {
+  public synchronized void setKsqlClusterID(String clusterId) {
     if (!isItValidId(clusterId)) {
       throw new ValidationException(
           "ksqlClusterId: " + clusterId + " is it not valid. Check your config!");
     }
-    this.ksqlClusterID = clusterId;
+    if (!Objects.equals(this.ksqlClusterID, clusterId)) {
+      this.ksqlClusterID = clusterId;
+      this.scopes = null;
+    }
   }
 
   private boolean isItValidId(String clusterId) {
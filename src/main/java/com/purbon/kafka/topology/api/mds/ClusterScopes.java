@@ -0,0 +1,72 @@
+package com.purbon.kafka.topology.api.mds;
+
+import static com.purbon.kafka.topology.api.mds.ClusterIDs.CONNECT_CLUSTER_ID_LABEL;
+import static com.purbon.kafka.topology.api.mds.ClusterIDs.KAFKA_CLUSTER_ID_LABEL;
+import static com.purbon.kafka.topology.api.mds.ClusterIDs.KSQL_CLUSTER_ID_LABEL;
+import static com.purbon.kafka.topology.api.mds.ClusterIDs.SCHEMA_REGISTRY_CLUSTER_ID_LABEL;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable cluster scopes of each component, computed once from a set of cluster ids. Unlike the
+ * ClusterIDs builder methods, reading a scope does not mutate any shared state and does not build
+ * a new map, so the same scope can be handed to every request.
+ */
+public final class ClusterScopes {
+
+  private final String kafkaClusterID;
+  private final Map<String, Map<String, String>> kafka;
+  private final Map<String, Map<String, String>> kafkaConnect;
+  private final Map<String, Map<String, String>> schemaRegistry;
+  private final Map<String, Map<String, String>> ksql;
+
+  ClusterScopes(
+      String kafkaClusterID,
+      String schemaRegistryClusterID,
+      String connectClusterID,
+      String ksqlClusterID) {
+    this.kafkaClusterID = kafkaClusterID;
+    this.kafka = scope(kafkaClusterID, null, null);
+    this.kafkaConnect = scope(kafkaClusterID, CONNECT_CLUSTER_ID_LABEL, connectClusterID);
+    this.schemaRegistry =
+        scope(kafkaClusterID, SCHEMA_REGISTRY_CLUSTER_ID_LABEL, schemaRegistryClusterID);
+    this.ksql = scope(kafkaClusterID, KSQL_CLUSTER_ID_LABEL, ksqlClusterID);
+  }
+
+  /** The scope of the Kafka cluster */
+  public Map<String, Map<String, String>> forKafka() {
+    return kafka;
+  }
+
+  /** The scope of the Kafka Connect cluster, within the Kafka cluster */
+  public Map<String, Map<String, String>> forKafkaConnect() {
+    return kafkaConnect;
+  }
+
+  /** The scope of the given Kafka Connect cluster, within the Kafka cluster */
+  public Map<String, Map<String, String>> forKafkaConnect(String connectClusterID) {
+    return scope(kafkaClusterID, CONNECT_CLUSTER_ID_LABEL, connectClusterID);
+  }
+
+  /** The scope of the Schema Registry cluster, within the Kafka cluster */
+  public Map<String, Map<String, String>> forSchemaRegistry() {
+    return schemaRegistry;
+  }
+
+  /** The scope of the ksqlDB cluster, within the Kafka cluster */
+  public Map<String, Map<String, String>> forKsql() {
+    return ksql;
+  }
+
+  private static Map<String, Map<String, String>> scope(
+      String kafkaClusterID, String label, String clusterID) {
+    Map<String, String> clusterIds = new HashMap<>();
+    clusterIds.put(KAFKA_CLUSTER_ID_LABEL, kafkaClusterID);
+    if (label != null) {
+      clusterIds.put(label, clusterID);
+    }
+    return Collections.singletonMap("clusters", Collections.unmodifiableMap(clusterIds));
+  }
+}
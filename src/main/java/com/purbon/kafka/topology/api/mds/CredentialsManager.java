@@ -0,0 +1,125 @@
+package com.purbon.kafka.topology.api.mds;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Cache of the MDS authentication token. Once a token has been fetched it is handed to every
+ * request, and a new one is fetched in the background when most of its lifetime has elapsed, so
+ * requests never wait for a refresh and keep using the current token until the new one arrives.
+ */
+class CredentialsManager {
+
+  private static final Logger LOGGER = LogManager.getLogger(CredentialsManager.class);
+
+  // fetch a new token once this fraction of the lifetime of the current one has elapsed
+  private static final double REFRESH_RATIO = 0.8;
+
+  private final Supplier<CompletableFuture<AuthenticationCredentials>> authenticator;
+  private final LongSupplier nanoClock;
+  private final AtomicReference<CompletableFuture<AuthenticationCredentials>> refreshing;
+
+  private volatile Token current;
+
+  CredentialsManager(Supplier<CompletableFuture<AuthenticationCredentials>> authenticator) {
+    this(authenticator, System::nanoTime);
+  }
+
+  CredentialsManager(
+      Supplier<CompletableFuture<AuthenticationCredentials>> authenticator,
+      LongSupplier nanoClock) {
+    this.authenticator = authenticator;
+    this.nanoClock = nanoClock;
+    this.refreshing = new AtomicReference<>();
+  }
+
+  /** Fetch a new token, waiting for it. */
+  AuthenticationCredentials authenticate() throws IOException {
+    try {
+      return refresh().join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof IOException
+          ? (IOException) e.getCause()
+          : new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Return the value of the authorization header for the current token, starting a refresh in the
+   * background when it is close to expire. Nothing is returned before the first authentication or
+   * once the token has expired.
+   */
+  Optional<String> authorization() {
+    Token token = current;
+    if (token == null) {
+      return Optional.empty();
+    }
+    long now = nanoClock.getAsLong();
+    if (now - token.refreshAtNanos >= 0) {
+      refresh();
+    }
+    if (now - token.expiresAtNanos >= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(token.authorization);
+  }
+
+  Optional<AuthenticationCredentials> getCredentials() {
+    return Optional.ofNullable(current).map(token -> token.credentials);
+  }
+
+  private CompletableFuture<AuthenticationCredentials> refresh() {
+    CompletableFuture<AuthenticationCredentials> next = new CompletableFuture<>();
+    CompletableFuture<AuthenticationCredentials> ongoing =
+        refreshing.compareAndExchange(null, next);
+    if (ongoing != null) {
+      return ongoing;
+    }
+    long fetchedAtNanos = nanoClock.getAsLong();
+    CompletableFuture<AuthenticationCredentials> request;
+    try {
+      request = authenticator.get();
+    } catch (RuntimeException e) {
+      request = CompletableFuture.failedFuture(e);
+    }
+    request.whenComplete(
+        (credentials, error) -> {
+          if (error == null) {
+            current = new Token(credentials, fetchedAtNanos);
+          } else {
+            LOGGER.warn("Failed to refresh the MDS authentication token", error);
+          }
+          refreshing.set(null);
+          if (error == null) {
+            next.complete(credentials);
+          } else {
+            next.completeExceptionally(error);
+          }
+        });
+    return next;
+  }
+
+  private static class Token {
+
+    private final AuthenticationCredentials credentials;
+    private final String authorization;
+    private final long refreshAtNanos;
+    private final long expiresAtNanos;
+
+    private Token(AuthenticationCredentials credentials, long fetchedAtNanos) {
+      long lifetimeNanos = TimeUnit.SECONDS.toNanos(credentials.getExpiresIn());
+      this.credentials = credentials;
+      this.authorization = credentials.getTokenType() + " " + credentials.getAuthToken();
+      this.refreshAtNanos = fetchedAtNanos + (long) (lifetimeNanos * REFRESH_RATIO);
+      this.expiresAtNanos = fetchedAtNanos + lifetimeNanos;
+    }
+  }
+}
@@ -15,14 +15,21 @@ import java.net.http.HttpClient;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import lombok.SneakyThrows;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.common.resource.ResourceType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,16 +38,21 @@ public class MDSApiClient extends JulieHttpClient {
 
   private static final Logger LOGGER = LogManager.getLogger(MDSApiClient.class);
 
-  private AuthenticationCredentials authenticationCredentials;
+  private static final String AUTHENTICATE_URL = "/security/1.0/authenticate";
+
+  private final CredentialsManager credentials;
   private final ClusterIDs clusterIDs;
+  private final int bindingsBatchSize;
 
   public MDSApiClient(String mdsServer) throws IOException {
     this(mdsServer, Optional.empty());
   }
 
   public MDSApiClient(String mdsServer, Optional<Configuration> configOptional) throws IOException {
-    super(mdsServer, configOptional);
+    super(mdsServer, configOptional, "mds");
+    this.credentials = new CredentialsManager(this::fetchCredentials);
     this.clusterIDs = new ClusterIDs(configOptional);
+    this.bindingsBatchSize = configOptional.map(Configuration::getRbacBindingsBatchSize).orElse(1);
   }
 
   @Override
@@ -87,26 +99,46 @@ public class MDSApiClient extends JulieHttpClient {
   }
 
   public AuthenticationCredentials getCredentials() {
-    return authenticationCredentials;
+    return credentials.getCredentials().orElse(null);
   }
 
+  /**
+   * Authenticate against MDS. The token received is then used by every request, instead of the
+   * basic auth credentials, and refreshed in the background before it expires.
+   */
   public void authenticate() throws IOException {
     try {
-      Response response = doGet("/security/1.0/authenticate");
-      if (response.getStatus() < 200 || response.getStatus() > 204) {
-        throw new IOException("MDS Authentication error: " + response.getResponseAsString());
-      }
-      authenticationCredentials =
-          new AuthenticationCredentials(
-              response.getField("auth_token").toString(),
-              response.getField("token_type").toString(),
-              Integer.valueOf(response.getField("expires_in").toString()));
+      credentials.authenticate();
     } catch (Exception e) {
       LOGGER.error(e);
       throw new IOException(e);
     }
   }
 
+  private CompletableFuture<AuthenticationCredentials> fetchCredentials() {
+    return doGetAsync(AUTHENTICATE_URL)
+        .thenApply(
+            response -> {
+              if (response.getStatus() < 200 || response.getStatus() > 204) {
+                throw new CompletionException(
+                    new IOException(
+                        "MDS Authentication error: " + response.getResponseAsString()));
+              }
+              return new AuthenticationCredentials(
+                  response.getField("auth_token").toString(),
+                  response.getField("token_type").toString(),
+                  Integer.valueOf(response.getField("expires_in").toString()));
+            });
+  }
+
+  @Override
+  protected String authorization(String url) {
+    if (AUTHENTICATE_URL.equals(url)) {
+      return super.authorization(url);
+    }
+    return credentials.authorization().orElseGet(() -> super.authorization(url));
+  }
+
   public ClusterLevelRoleBuilder bind(String principal, String role) {
     return new ClusterLevelRoleBuilder(principal, role, this);
   }
@@ -167,6 +199,74 @@ public class MDSApiClient extends JulieHttpClient {
     }
   }
 
+  /**
+   * Create the given role bindings. Bindings sharing a principal, a role and a cluster scope are
+   * sent together, in requests carrying up to the configured batch size of resources, while cluster
+   * scoped bindings are still sent one by one.
+   *
+   * @param bindings The role bindings to create
+   * @throws IOException
+   */
+  public void bindRequests(Collection<TopologyAclBinding> bindings) throws IOException {
+    List<TopologyAclBinding> resourceBindings = new ArrayList<>();
+    for (TopologyAclBinding binding : bindings) {
+      if (isBindingWithResources(binding) && !isClusterScopedRole(binding.getOperation())) {
+        resourceBindings.add(binding);
+      } else {
+        bindRequest(binding);
+      }
+    }
+    for (MDSRequest mdsRequest :
+        buildRequests(resourceBindings, TopologyAclBinding::getScope, bindingsBatchSize)) {
+      try {
+        LOGGER.debug("bind.entity: " + mdsRequest.getJsonEntity());
+        doPost("/security/1.0/principals/" + mdsRequest.getUrl(), mdsRequest.getJsonEntity());
+      } catch (IOException e) {
+        LOGGER.error(e);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Group the bindings by principal, role and cluster scope, and build the requests for their
+   * resources, up to batchSize bindings per request.
+   */
+  List<MDSRequest> buildRequests(
+      Collection<TopologyAclBinding> bindings,
+      Function<TopologyAclBinding, RequestScope> scopeOf,
+      int batchSize) {
+    Map<List<String>, List<RequestScope>> groups = new LinkedHashMap<>();
+    for (TopologyAclBinding binding : bindings) {
+      RequestScope scope = scopeOf.apply(binding);
+      List<String> key =
+          Arrays.asList(binding.getPrincipal(), binding.getOperation(), scope.clustersAsJson());
+      groups.computeIfAbsent(key, k -> new ArrayList<>()).add(scope);
+    }
+
+    int size = Math.max(1, batchSize);
+    List<MDSRequest> requests = new ArrayList<>();
+    groups.forEach(
+        (key, scopes) -> {
+          String url = key.get(0) + "/roles/" + key.get(1) + "/bindings";
+          for (int i = 0; i < scopes.size(); i += size) {
+            RequestScope request = new RequestScope();
+            request.setClusters(scopes.get(i).getScope());
+            for (RequestScope scope : scopes.subList(i, Math.min(i + size, scopes.size()))) {
+              for (Map<String, String> resource : scope.getResources()) {
+                request.addResource(
+                    resource.get(RESOURCE_TYPE),
+                    resource.get(RESOURCE_NAME),
+                    resource.get(RESOURCE_PATTERN_TYPE));
+              }
+            }
+            request.build();
+            requests.add(new MDSRequest(url, request.asJson()));
+          }
+        });
+    return requests;
+  }
+
   /**
    * Create an RBAC resource binding
    *
@@ -219,18 +319,59 @@ public class MDSApiClient extends JulieHttpClient {
     }
   }
 
+  /**
+   * Remove the given resource role bindings, at the cluster scope of their resource type. Bindings
+   * sharing a principal, a role and a cluster scope are removed together, in requests carrying up
+   * to the configured batch size of resources.
+   *
+   * @param bindings The role bindings to remove
+   */
+  public void deleteRoles(Collection<TopologyAclBinding> bindings) {
+    Map<String, Map<String, Map<String, String>>> clustersByResourceType = new HashMap<>();
+    Function<TopologyAclBinding, RequestScope> scopeOf =
+        binding -> {
+          String resourceType = StringUtils.capitalize(binding.getResourceType().toLowerCase());
+          RequestScope scope = new RequestScope();
+          scope.setClusters(
+              clustersByResourceType.computeIfAbsent(resourceType, this::clustersForResourceType));
+          scope.addResource(resourceType, binding.getResourceName(), binding.getPattern());
+          scope.build();
+          return scope;
+        };
+
+    for (MDSRequest mdsRequest : buildRequests(bindings, scopeOf, bindingsBatchSize)) {
+      try {
+        doDelete("/security/1.0/principals/" + mdsRequest.getUrl(), mdsRequest.getJsonEntity());
+      } catch (IOException e) {
+        LOGGER.error(e);
+      }
+    }
+  }
+
+  private Map<String, Map<String, String>> clustersForResourceType(String resourceType) {
+    ClusterScopes scopes = clusterScopes();
+    if (resourceType.equalsIgnoreCase("subject")) {
+      return scopes.forSchemaRegistry();
+    } else if (resourceType.equalsIgnoreCase("connector")) {
+      return scopes.forKafkaConnect();
+    } else if (resourceType.equalsIgnoreCase("KsqlCluster")) {
+      return scopes.forKsql();
+    }
+    return scopes.forKafka();
+  }
+
   public List<String> lookupKafkaPrincipalsByRoleForKafka(String role) {
-    Map<String, Map<String, String>> clusters = clusterIDs.forKafka().asMap();
+    Map<String, Map<String, String>> clusters = clusterScopes().forKafka();
     return lookupKafkaPrincipalsByRole(role, clusters);
   }
 
   public List<String> lookupKafkaPrincipalsByRoleForConnect(String role) {
-    Map<String, Map<String, String>> clusters = clusterIDs.forKafka().forKafkaConnect().asMap();
+    Map<String, Map<String, String>> clusters = clusterScopes().forKafkaConnect();
     return lookupKafkaPrincipalsByRole(role, clusters);
   }
 
   public List<String> lookupKafkaPrincipalsByRoleForSchemaRegistry(String role) {
-    Map<String, Map<String, String>> clusters = clusterIDs.forKafka().forSchemaRegistry().asMap();
+    Map<String, Map<String, String>> clusters = clusterScopes().forSchemaRegistry();
     return lookupKafkaPrincipalsByRole(role, clusters);
   }
 
@@ -270,17 +411,17 @@ public class MDSApiClient extends JulieHttpClient {
   }
 
   public List<RbacResourceType> lookupResourcesForKafka(String principal, String role) {
-    Map<String, Map<String, String>> clusters = clusterIDs.forKafka().asMap();
+    Map<String, Map<String, String>> clusters = clusterScopes().forKafka();
     return lookupResources(principal, role, clusters);
   }
 
   public List<RbacResourceType> lookupResourcesForConnect(String principal, String role) {
-    Map<String, Map<String, String>> clusters = clusterIDs.forKafka().forKafkaConnect().asMap();
+    Map<String, Map<String, String>> clusters = clusterScopes().forKafkaConnect();
     return lookupResources(principal, role, clusters);
   }
 
   public List<RbacResourceType> lookupResourcesForSchemaRegistry(String principal, String role) {
-    Map<String, Map<String, String>> clusters = clusterIDs.forKafka().forSchemaRegistry().asMap();
+    Map<String, Map<String, String>> clusters = clusterScopes().forSchemaRegistry();
     return lookupResources(principal, role, clusters);
   }
 
@@ -329,6 +470,15 @@ public class MDSApiClient extends JulieHttpClient {
     clusterIDs.setKsqlClusterID(clusterId);
   }
 
+  /**
+   * Return the immutable, precomputed, cluster scopes of every component.
+   *
+   * @return ClusterScopes
+   */
+  public ClusterScopes clusterScopes() {
+    return clusterIDs.scopes();
+  }
+
   /**
    * Builder method used to compose custom versions of clusterIDs, this is useful when for example
    * listing the permissions using the listResource method.
@@ -9,7 +9,9 @@ import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.utils.JSON;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 public class BackendState {
@@ -20,6 +22,8 @@ public class BackendState {
   private final Set<KafkaConnectArtefact> connectors;
   private final Set<KsqlStreamArtefact> ksqlStreams;
   private final Set<KsqlTableArtefact> ksqlTables;
+  // fingerprint of the schema last registered for each subject
+  private final Map<String, String> schemas;
 
   public BackendState() {
     this.accounts = new HashSet<>();
@@ -28,6 +32,7 @@ public class BackendState {
     this.connectors = new HashSet<>();
     this.ksqlStreams = new HashSet<>();
     this.ksqlTables = new HashSet<>();
+    this.schemas = new HashMap<>();
   }
 
   public void addAccounts(Collection<ServiceAccount> accounts) {
@@ -54,6 +59,38 @@ public class BackendState {
     this.ksqlTables.addAll(ksqlTables);
   }
 
+  public void addSchemas(Map<String, String> schemas) {
+    this.schemas.putAll(schemas);
+  }
+
+  /** Add every item of the other state, replacing the equal items already present. */
+  public void merge(BackendState other) {
+    replace(bindings, other.bindings);
+    replace(accounts, other.accounts);
+    replace(topics, other.topics);
+    replace(connectors, other.connectors);
+    replace(ksqlStreams, other.ksqlStreams);
+    replace(ksqlTables, other.ksqlTables);
+    schemas.putAll(other.schemas);
+  }
+
+  /** Remove every item of the other state, and the schemas of its subjects. */
+  public void subtract(BackendState other) {
+    bindings.removeAll(other.bindings);
+    accounts.removeAll(other.accounts);
+    topics.removeAll(other.topics);
+    connectors.removeAll(other.connectors);
+    ksqlStreams.removeAll(other.ksqlStreams);
+    ksqlTables.removeAll(other.ksqlTables);
+    schemas.keySet().removeAll(other.schemas.keySet());
+  }
+
+  private static <T> void replace(Set<T> items, Collection<T> newItems) {
+    // a set keeps the item already present, the items are only equal on their identifiers
+    items.removeAll(newItems);
+    items.addAll(newItems);
+  }
+
   public Set<TopologyAclBinding> getBindings() {
     return bindings;
   }
@@ -78,6 +115,10 @@ public class BackendState {
     return ksqlTables;
   }
 
+  public Map<String, String> getSchemas() {
+    return schemas;
+  }
+
   @JsonIgnore
   public String asJson() throws JsonProcessingException {
     return JSON.asString(this);
@@ -95,6 +136,7 @@ public class BackendState {
     connectors.clear();
     ksqlStreams.clear();
     ksqlTables.clear();
+    schemas.clear();
   }
 
   public int size() {
@@ -103,6 +145,7 @@ public class BackendState {
         + topics.size()
         + connectors.size()
         + ksqlTables.size()
-        + ksqlStreams.size();
+        + ksqlStreams.size()
+        + schemas.size();
   }
 }
@@ -0,0 +1,265 @@
+package com.purbon.kafka.topology.backend;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact encoding of the {@link BackendState}, used by every backend.
+ *
+ * <p>The state is written as the stream of its JSON tokens, so it follows the same model as the
+ * JSON format, but every field name and string value is stored once in a dictionary and then
+ * referenced by its index. Principals, resource names and enum values like the operations and
+ * pattern types repeat in most bindings, so this removes most of the size. The token stream is
+ * then compressed with gzip, behind a header carrying the format version.
+ *
+ * <p>Reading detects the format from the header, so the JSON states written by earlier versions
+ * are still read, and are written back in the compact format on the next save.
+ */
+public final class BackendStateCodec {
+
+  // a leading zero byte can not start a JSON document nor the old text format
+  private static final byte[] MAGIC = {0, 'J', 'S', 'T'};
+  private static final int VERSION = 1;
+  // size of the buffers around the gzip streams
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final int END = 0;
+  private static final int START_OBJECT = 1;
+  private static final int END_OBJECT = 2;
+  private static final int START_ARRAY = 3;
+  private static final int END_ARRAY = 4;
+  private static final int FIELD_NAME = 5;
+  private static final int STRING = 6;
+  private static final int INTEGER = 7;
+  private static final int NUMBER_TEXT = 8;
+  private static final int FLOAT = 9;
+  private static final int TRUE = 10;
+  private static final int FALSE = 11;
+  private static final int NULL = 12;
+
+  private BackendStateCodec() {}
+
+  public static byte[] encode(BackendState state) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    encode(state, out);
+    return out.toByteArray();
+  }
+
+  /** Write the state in the compact format, the stream is left open. */
+  public static void encode(BackendState state, OutputStream out) throws IOException {
+    out.write(MAGIC);
+    out.write(VERSION);
+    GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(gzip, BUFFER_SIZE));
+    Map<String, Integer> dictionary = new HashMap<>();
+    try (JsonParser tokens = JSON.asTokens(state).asParser()) {
+      JsonToken token;
+      while ((token = tokens.nextToken()) != null) {
+        switch (token) {
+          case START_OBJECT:
+            data.writeByte(START_OBJECT);
+            break;
+          case END_OBJECT:
+            data.writeByte(END_OBJECT);
+            break;
+          case START_ARRAY:
+            data.writeByte(START_ARRAY);
+            break;
+          case END_ARRAY:
+            data.writeByte(END_ARRAY);
+            break;
+          case FIELD_NAME:
+            data.writeByte(FIELD_NAME);
+            writeString(data, dictionary, tokens.currentName());
+            break;
+          case VALUE_STRING:
+            data.writeByte(STRING);
+            writeString(data, dictionary, tokens.getText());
+            break;
+          case VALUE_NUMBER_INT:
+            if (tokens.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+              data.writeByte(NUMBER_TEXT);
+              writeString(data, dictionary, tokens.getText());
+            } else {
+              data.writeByte(INTEGER);
+              writeVarLong(data, tokens.getLongValue());
+            }
+            break;
+          case VALUE_NUMBER_FLOAT:
+            data.writeByte(FLOAT);
+            data.writeDouble(tokens.getDoubleValue());
+            break;
+          case VALUE_TRUE:
+            data.writeByte(TRUE);
+            break;
+          case VALUE_FALSE:
+            data.writeByte(FALSE);
+            break;
+          case VALUE_NULL:
+            data.writeByte(NULL);
+            break;
+          default:
+            throw new IOException("Unsupported token in the state: " + token);
+        }
+      }
+    }
+    data.writeByte(END);
+    data.flush();
+    gzip.finish();
+  }
+
+  public static BackendState decode(byte[] content) throws IOException {
+    return decode(new ByteArrayInputStream(content));
+  }
+
+  /**
+   * Read a state in the compact format, or in the JSON format of the earlier versions. The tokens
+   * of the compact format are collected in a buffer, which is then bound to the state.
+   */
+  public static BackendState decode(InputStream in) throws IOException {
+    InputStream input = in.markSupported() ? in : new BufferedInputStream(in);
+    if (!isCompact(input)) {
+      return (BackendState) JSON.toObject(input, BackendState.class);
+    }
+    if (input.readNBytes(MAGIC.length).length != MAGIC.length) {
+      throw new EOFException("Truncated state header");
+    }
+    int version = input.read();
+    if (version != VERSION) {
+      throw new IOException("Unsupported version of the state format: " + version);
+    }
+    DataInputStream data =
+        new DataInputStream(
+            new BufferedInputStream(new GZIPInputStream(input, BUFFER_SIZE), BUFFER_SIZE));
+    List<String> dictionary = new ArrayList<>();
+    TokenBuffer tokens = JSON.newTokenBuffer();
+    int op;
+    while ((op = data.readUnsignedByte()) != END) {
+      switch (op) {
+        case START_OBJECT:
+          tokens.writeStartObject();
+          break;
+        case END_OBJECT:
+          tokens.writeEndObject();
+          break;
+        case START_ARRAY:
+          tokens.writeStartArray();
+          break;
+        case END_ARRAY:
+          tokens.writeEndArray();
+          break;
+        case FIELD_NAME:
+          tokens.writeFieldName(readString(data, dictionary));
+          break;
+        case STRING:
+          tokens.writeString(readString(data, dictionary));
+          break;
+        case INTEGER:
+          tokens.writeNumber(readVarLong(data));
+          break;
+        case NUMBER_TEXT:
+          tokens.writeNumber(readString(data, dictionary));
+          break;
+        case FLOAT:
+          tokens.writeNumber(data.readDouble());
+          break;
+        case TRUE:
+          tokens.writeBoolean(true);
+          break;
+        case FALSE:
+          tokens.writeBoolean(false);
+          break;
+        case NULL:
+          tokens.writeNull();
+          break;
+        default:
+          throw new IOException("Corrupted state, unknown token " + op);
+      }
+    }
+    try (JsonParser parser = tokens.asParser()) {
+      return (BackendState) JSON.toObject(parser, BackendState.class);
+    }
+  }
+
+  /** Tell if the stream starts with a state in the compact format, without consuming it. */
+  public static boolean isCompact(InputStream in) throws IOException {
+    byte[] head = new byte[MAGIC.length];
+    in.mark(MAGIC.length);
+    int read = in.readNBytes(head, 0, head.length);
+    in.reset();
+    return read == MAGIC.length && Arrays.equals(head, MAGIC);
+  }
+
+  // a string is written in full the first time, and as a reference to its index afterwards
+  private static void writeString(DataOutputStream data, Map<String, Integer> dictionary, String s)
+      throws IOException {
+    Integer index = dictionary.get(s);
+    if (index != null) {
+      writeVarLong(data, index + 1);
+      return;
+    }
+    dictionary.put(s, dictionary.size());
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    writeVarLong(data, 0);
+    writeVarLong(data, bytes.length);
+    data.write(bytes);
+  }
+
+  private static String readString(DataInputStream data, List<String> dictionary)
+      throws IOException {
+    long reference = readVarLong(data);
+    if (reference > 0) {
+      if (reference > dictionary.size()) {
+        throw new IOException("Corrupted state, unknown string reference " + reference);
+      }
+      return dictionary.get((int) reference - 1);
+    }
+    byte[] bytes = new byte[(int) readVarLong(data)];
+    data.readFully(bytes);
+    String s = new String(bytes, StandardCharsets.UTF_8);
+    dictionary.add(s);
+    return s;
+  }
+
+  // zig-zag encoded, seven bits per byte
+  private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+    long v = (value << 1) ^ (value >> 63);
+    while ((v & ~0x7FL) != 0) {
+      data.writeByte((int) ((v & 0x7F) | 0x80));
+      v >>>= 7;
+    }
+    data.writeByte((int) v);
+  }
+
+  private static long readVarLong(DataInputStream data) throws IOException {
+    long v = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = data.readUnsignedByte();
+      v |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return (v >>> 1) ^ -(v & 1);
+      }
+    }
+    throw new IOException("Corrupted state, malformed number");
+  }
+}
@@ -0,0 +1,120 @@
+package com.purbon.kafka.topology.backend;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Changes made to the state by the actions of a run. The removed items are applied before the
+ * added ones, and an item added after being removed, or removed after being added, keeps only its
+ * last change, so applying the delta to the state it was recorded against gives the state at the
+ * end of the run. Applying it again gives the same state.
+ */
+public class BackendStateDelta {
+
+  private final BackendState added;
+  private final BackendState removed;
+
+  public BackendStateDelta() {
+    this.added = new BackendState();
+    this.removed = new BackendState();
+  }
+
+  public void addBindings(Collection<TopologyAclBinding> bindings) {
+    add(added.getBindings(), bindings);
+  }
+
+  public void removeBindings(Collection<TopologyAclBinding> bindings) {
+    remove(added.getBindings(), removed.getBindings(), bindings);
+  }
+
+  public void addAccounts(Collection<ServiceAccount> accounts) {
+    add(added.getAccounts(), accounts);
+  }
+
+  public void removeAccounts(Collection<ServiceAccount> accounts) {
+    remove(added.getAccounts(), removed.getAccounts(), accounts);
+  }
+
+  public void addTopics(Collection<String> topics) {
+    add(added.getTopics(), topics);
+  }
+
+  public void removeTopics(Collection<String> topics) {
+    remove(added.getTopics(), removed.getTopics(), topics);
+  }
+
+  public void addConnectors(Collection<KafkaConnectArtefact> connectors) {
+    add(added.getConnectors(), connectors);
+  }
+
+  public void removeConnectors(Collection<KafkaConnectArtefact> connectors) {
+    remove(added.getConnectors(), removed.getConnectors(), connectors);
+  }
+
+  public void addKSqlStreams(Collection<KsqlStreamArtefact> ksqlStreams) {
+    add(added.getKSqlStreams(), ksqlStreams);
+  }
+
+  public void removeKSqlStreams(Collection<KsqlStreamArtefact> ksqlStreams) {
+    remove(added.getKSqlStreams(), removed.getKSqlStreams(), ksqlStreams);
+  }
+
+  public void addKSqlTables(Collection<KsqlTableArtefact> ksqlTables) {
+    add(added.getKSqlTables(), ksqlTables);
+  }
+
+  public void removeKSqlTables(Collection<KsqlTableArtefact> ksqlTables) {
+    remove(added.getKSqlTables(), removed.getKSqlTables(), ksqlTables);
+  }
+
+  public void addSchemas(Map<String, String> schemas) {
+    added.addSchemas(schemas);
+  }
+
+  public void removeSchemas(Map<String, String> schemas) {
+    added.getSchemas().keySet().removeAll(schemas.keySet());
+    removed.addSchemas(schemas);
+  }
+
+  /** Apply the changes to the given state. */
+  public void applyTo(BackendState state) {
+    state.subtract(removed);
+    state.merge(added);
+  }
+
+  public BackendState getAdded() {
+    return added;
+  }
+
+  public BackendState getRemoved() {
+    return removed;
+  }
+
+  @JsonIgnore
+  public boolean isEmpty() {
+    return added.size() == 0 && removed.size() == 0;
+  }
+
+  public void clear() {
+    added.clear();
+    removed.clear();
+  }
+
+  private static <T> void add(Set<T> added, Collection<T> items) {
+    // replace the equal items, they may differ in the fields that are not part of the identity
+    added.removeAll(items);
+    added.addAll(items);
+  }
+
+  private static <T> void remove(Set<T> added, Set<T> removed, Collection<T> items) {
+    added.removeAll(items);
+    removed.addAll(items);
+  }
+}
@@ -3,24 +3,41 @@ package com.purbon.kafka.topology.backend;
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.purbon.kafka.topology.BackendController.Mode;
-import com.purbon.kafka.topology.utils.JSON;
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Backend keeping the state in a local file. The file is read through a buffered stream, and every
+ * save writes the complete state to a temporary file that is synced and then renamed over the state
+ * file, so a crash during a save leaves the previous state in place.
+ */
 public class FileBackend implements Backend {
 
   private static final Logger LOGGER = LogManager.getLogger(FileBackend.class);
 
-  // Use FileWriter instead of RandomAccessFile due to
-  // https://bugs.java.com/bugdatabase/view_bug.do?bug_id=4715154
-  private FileWriter writer;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  // the longest control tag of the old text format, with room for the line break
+  private static final int CONTROL_TAG_LENGTH = 32;
+
+  // The file is streamed rather than memory mapped, a mapped file can not be replaced until
+  // it is garbage collected, see https://bugs.java.com/bugdatabase/view_bug.do?bug_id=4715154
+  private final Path path;
+  private final Path tempPath;
 
   public FileBackend() {
-    this.writer = null;
+    this.path = Paths.get(STATE_FILE_NAME);
+    this.tempPath = Paths.get(STATE_FILE_NAME + ".tmp");
   }
 
   @Override
@@ -30,9 +47,11 @@ public class FileBackend implements Backend {
 
   @Override
   public void createOrOpen(Mode mode) {
+    // the state is replaced as a whole on save, truncating it here would lose it on a crash
     try {
-      if (this.writer != null) writer.close();
-      this.writer = new FileWriter(STATE_FILE_NAME, !Mode.TRUNCATE.equals(mode));
+      Files.createFile(path);
+    } catch (FileAlreadyExistsException e) {
+      // nothing to do
     } catch (IOException e) {
       LOGGER.error(e);
     }
@@ -40,41 +59,83 @@ public class FileBackend implements Backend {
 
   @Override
   public void save(BackendState state) throws IOException {
-    writeText(state.asPrettyJson());
+    try {
+      write(state);
+    } catch (IOException e) {
+      LOGGER.error(e);
+      throw e;
+    }
   }
 
   @Override
   public BackendState load() throws IOException {
-    Path filePath = Paths.get(STATE_FILE_NAME);
-    if (Files.size(filePath) == 0) { // if we are loading when there is no file or is empty.
+    if (Files.notExists(path) || Files.size(path) == 0) { // no file or an empty one.
       return new BackendState();
     }
-    return load(filePath);
+    // a state written by an earlier version is migrated to the compact format on the next save
+    return load(path);
   }
 
   BackendState load(Path stateFilePath) throws IOException {
-    String backendStateAsJsonString = Files.readString(stateFilePath);
-    if (OldFileBackendLoader.isControlTag(backendStateAsJsonString.split("\\r?\\n")[0])) {
-      return new OldFileBackendLoader().load(stateFilePath.toFile());
+    try (InputStream in = open(stateFilePath)) {
+      if (startsWithControlTag(in)) {
+        return new OldFileBackendLoader().load(stateFilePath.toFile());
+      }
+      return BackendStateCodec.decode(in);
     }
-    return (BackendState) JSON.toObject(backendStateAsJsonString, BackendState.class);
   }
 
-  private void writeText(String text) throws IOException {
+  private InputStream open(Path stateFilePath) throws IOException {
+    return new BufferedInputStream(Files.newInputStream(stateFilePath), BUFFER_SIZE);
+  }
+
+  // look at the first line only, the old text format starts with one of its control tags
+  private boolean startsWithControlTag(InputStream in) throws IOException {
+    byte[] head = new byte[CONTROL_TAG_LENGTH];
+    in.mark(head.length);
+    int read = in.readNBytes(head, 0, head.length);
+    in.reset();
+    String firstLine = new String(head, 0, read, StandardCharsets.UTF_8).split("\\r?\\n")[0];
+    return OldFileBackendLoader.isControlTag(firstLine);
+  }
+
+  private void write(BackendState state) throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(
+            tempPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+      BackendStateCodec.encode(state, out);
+      out.flush();
+      channel.force(true);
+    }
     try {
-      writer.write(text);
+      Files.move(
+          tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      LOGGER.debug("Atomic move not supported, replacing the state file", e);
+      Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+    syncDirectory(path.toAbsolutePath().getParent());
+  }
+
+  // the rename is only durable once the directory entry is on disk
+  private void syncDirectory(Path dir) {
+    if (dir == null) {
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+      channel.force(true);
     } catch (IOException e) {
-      LOGGER.error(e);
-      throw e;
+      // some platforms, like Windows, can not open or sync a directory
+      LOGGER.debug("Could not sync the state directory " + dir, e);
     }
   }
 
   @Override
   public void close() {
-    try {
-      writer.close();
-    } catch (IOException e) {
-      LOGGER.error(e);
-    }
+    // nothing to do, every save is complete on return
   }
 }
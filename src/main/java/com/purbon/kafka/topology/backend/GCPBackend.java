@@ -4,10 +4,8 @@ import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.google.cloud.storage.*;
 import com.purbon.kafka.topology.Configuration;
-import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -36,7 +34,7 @@ public class GCPBackend implements Backend {
     try {
       storage.create(
           blobInfo,
-          state.asJson().getBytes(StandardCharsets.UTF_8),
+          BackendStateCodec.encode(state),
           Storage.BlobTargetOption.detectContentType());
     } catch (Exception ex) {
       LOGGER.error(ex);
@@ -48,8 +46,7 @@ public class GCPBackend implements Backend {
   public BackendState load() throws IOException {
     try {
       Blob blob = storage.get(BlobId.of(config.getGCPBucket(), STATE_FILE_NAME));
-      String contentJson = new String(blob.getContent(), StandardCharsets.UTF_8);
-      return (BackendState) JSON.toObject(contentJson, BackendState.class);
+      return BackendStateCodec.decode(blob.getContent());
     } catch (Exception ex) {
       LOGGER.error(ex);
       throw new IOException(ex);
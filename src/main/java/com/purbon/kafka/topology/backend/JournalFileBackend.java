@@ -0,0 +1,135 @@
+package com.purbon.kafka.topology.backend;
+
+import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.purbon.kafka.topology.BackendController.Mode;
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * File backend that only appends the changes of each run to a journal, one JSON line per run, next
+ * to the snapshot written by the {@link FileBackend}. The journal is replayed over the snapshot on
+ * load, and once it holds the configured number of entries it is compacted into a new snapshot.
+ *
+ * <p>Replaying an entry twice gives the same state, so a crash between writing the snapshot and
+ * removing the journal is harmless. A last line left incomplete by a crash is ignored.
+ */
+public class JournalFileBackend implements JournaledBackend {
+
+  private static final Logger LOGGER = LogManager.getLogger(JournalFileBackend.class);
+
+  public static final String JOURNAL_FILE_NAME = STATE_FILE_NAME + ".journal";
+
+  private static final int DEFAULT_COMPACTION_ENTRIES = 100;
+
+  private final FileBackend snapshot;
+  private final Path journalPath;
+  private int compactionEntries;
+  private int entries;
+
+  public JournalFileBackend() {
+    this(DEFAULT_COMPACTION_ENTRIES);
+  }
+
+  JournalFileBackend(int compactionEntries) {
+    this.snapshot = new FileBackend();
+    this.journalPath = Paths.get(JOURNAL_FILE_NAME);
+    this.compactionEntries = compactionEntries;
+    this.entries = 0;
+  }
+
+  @Override
+  public void configure(Configuration config) {
+    this.compactionEntries = config.getStateJournalCompactionEntries();
+  }
+
+  @Override
+  public void createOrOpen() {
+    createOrOpen(Mode.APPEND);
+  }
+
+  @Override
+  public void createOrOpen(Mode mode) {
+    snapshot.createOrOpen(mode);
+  }
+
+  @Override
+  public void save(BackendState state) throws IOException {
+    snapshot.save(state);
+    // the snapshot holds the complete state, the journal would only repeat part of it
+    deleteJournal();
+  }
+
+  @Override
+  public BackendState load() throws IOException {
+    BackendState state = snapshot.load();
+    entries = 0;
+    if (!Files.exists(journalPath)) {
+      return state;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        BackendStateDelta delta;
+        try {
+          delta = (BackendStateDelta) JSON.toObject(line, BackendStateDelta.class);
+        } catch (JsonProcessingException e) {
+          LOGGER.warn("Ignoring the unreadable end of the state journal " + journalPath, e);
+          break;
+        }
+        delta.applyTo(state);
+        entries++;
+      }
+    }
+    LOGGER.debug(String.format("Replayed %d entries of the state journal", entries));
+    return state;
+  }
+
+  @Override
+  public void append(BackendStateDelta delta, BackendState state) throws IOException {
+    if (delta.isEmpty()) {
+      return;
+    }
+    if (compactionEntries > 0 && entries + 1 >= compactionEntries) {
+      LOGGER.debug(String.format("Compact %d entries of the state journal", entries + 1));
+      snapshot.createOrOpen(Mode.TRUNCATE);
+      save(state);
+      snapshot.close();
+      return;
+    }
+    Files.writeString(
+        journalPath,
+        JSON.asString(delta) + System.lineSeparator(),
+        StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND);
+    entries++;
+  }
+
+  private void deleteJournal() {
+    try {
+      Files.deleteIfExists(journalPath);
+      entries = 0;
+    } catch (IOException e) {
+      LOGGER.error(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    snapshot.close();
+  }
+}
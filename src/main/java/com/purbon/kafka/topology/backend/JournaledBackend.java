@@ -0,0 +1,16 @@
+package com.purbon.kafka.topology.backend;
+
+import java.io.IOException;
+
+/**
+ * Backend able to persist the changes of a run on their own, instead of the complete state. The
+ * state loaded back must include every delta appended since the last full save.
+ */
+public interface JournaledBackend extends Backend {
+
+  /**
+   * Append the changes of a run. The complete state at the end of the run is given as well, so the
+   * backend can compact the changes appended so far into a full save.
+   */
+  void append(BackendStateDelta delta, BackendState state) throws IOException;
+}
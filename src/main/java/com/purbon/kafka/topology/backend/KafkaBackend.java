@@ -5,7 +5,10 @@ import com.purbon.kafka.topology.backend.kafka.KafkaBackendConsumer;
 import com.purbon.kafka.topology.backend.kafka.KafkaBackendProducer;
 import com.purbon.kafka.topology.backend.kafka.KafkaBackendTopicCreator;
 import com.purbon.kafka.topology.backend.kafka.RecordReceivedCallback;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.SneakyThrows;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -17,20 +20,20 @@ public class KafkaBackend implements Backend, RecordReceivedCallback {
 
   private static final Logger LOGGER = LogManager.getLogger(KafkaBackend.class);
 
-  private boolean isCompleted;
-
   private KafkaBackendTopicCreator topicCreator;
   private KafkaBackendConsumer consumer;
   private KafkaBackendProducer producer;
 
   private AtomicReference<BackendState> latest;
-  private AtomicBoolean shouldWaitForLoad;
+  private CountDownLatch loaded;
+  private AtomicReference<Throwable> loadError;
+  private Duration loadTimeout;
   private String instanceId;
   private Thread thread;
 
   public KafkaBackend() {
-    isCompleted = false;
-    shouldWaitForLoad = new AtomicBoolean(true);
+    loaded = new CountDownLatch(1);
+    loadError = new AtomicReference<>();
   }
 
   private static class JulieKafkaConsumerThread implements Runnable {
@@ -43,11 +46,14 @@ public class KafkaBackend implements Backend, RecordReceivedCallback {
     }
 
     public void run() {
-      consumer.start();
       try {
+        consumer.start();
         consumer.retrieve(callback);
       } catch (WakeupException ex) {
         LOGGER.trace(ex);
+      } catch (RuntimeException ex) {
+        LOGGER.error("Failed to read the state topic", ex);
+        callback.loadFailed(ex);
       }
     }
   }
@@ -57,7 +63,9 @@ public class KafkaBackend implements Backend, RecordReceivedCallback {
   public void configure(Configuration config) {
     instanceId = config.getJulieInstanceId();
     latest = new AtomicReference<>(new BackendState());
-    shouldWaitForLoad.set(true);
+    loaded = new CountDownLatch(1);
+    loadError = new AtomicReference<>();
+    loadTimeout = Duration.ofMillis(config.getKafkaBackendLoadTimeoutMs());
 
     topicCreator = new KafkaBackendTopicCreator(config);
     topicCreator.configure();
@@ -71,25 +79,13 @@ public class KafkaBackend implements Backend, RecordReceivedCallback {
 
     if (stateTopicCreated && config.isDryRun()) {
       /* Dry-run mode with no pre-existing state topic. Just return an empty state. */
-      shouldWaitForLoad.set(false);
+      loaded.countDown();
     } else {
       thread = new Thread(new JulieKafkaConsumerThread(this, consumer), "kafkaJulieConsumer");
       thread.start();
-      waitForCompletion();
-    }
-  }
-
-  public synchronized void waitForCompletion() throws InterruptedException {
-    while (!isCompleted) {
-      wait(30000);
     }
   }
 
-  public synchronized void complete() {
-    isCompleted = true;
-    notify();
-  }
-
   @Override
   public void save(BackendState state) {
     producer.save(state);
@@ -98,24 +94,41 @@ public class KafkaBackend implements Backend, RecordReceivedCallback {
   @SneakyThrows
   @Override
   public BackendState load() {
-    while (shouldWaitForLoad.get()) {
-      continue;
+    try {
+      if (loadTimeout.isZero()) {
+        loaded.await();
+      } else if (!loaded.await(loadTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new IOException("Timed out after " + loadTimeout + " loading the state");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+    if (loadError.get() != null) {
+      throw new IOException("Failed to load the state", loadError.get());
     }
     return latest == null ? new BackendState() : latest.get();
   }
 
   public void initialLoadFinish() {
-    shouldWaitForLoad.set(false);
+    loaded.countDown();
+  }
+
+  private void loadFailed(Throwable error) {
+    loadError.set(error);
+    loaded.countDown();
   }
 
   @Override
   public void close() {
     consumer.stop();
     producer.stop();
-    try {
-      thread.join();
-    } catch (InterruptedException e) {
-      LOGGER.error(e);
+    if (thread != null) {
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        LOGGER.error(e);
+      }
     }
     latest = null;
     thread = null;
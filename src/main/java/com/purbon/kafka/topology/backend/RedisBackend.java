@@ -4,6 +4,7 @@ import com.purbon.kafka.topology.BackendController.Mode;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
+import java.util.Base64;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -50,7 +51,8 @@ public class RedisBackend implements Backend {
   @Override
   public void save(BackendState state) throws IOException {
     LOGGER.debug("Storing state for: " + state);
-    jedis.set(bucket, state.asPrettyJson());
+    // the compact state is binary, the bucket holds it in Base64
+    jedis.set(bucket, Base64.getEncoder().encodeToString(BackendStateCodec.encode(state)));
   }
 
   @Override
@@ -58,7 +60,12 @@ public class RedisBackend implements Backend {
     connectIfNeed();
     Optional<String> contentOptional = Optional.ofNullable(jedis.get(bucket));
     LOGGER.debug("Loading a new state instance: " + contentOptional);
-    return (BackendState) JSON.toObject(contentOptional.orElse("{}"), BackendState.class);
+    String content = contentOptional.orElse("{}");
+    if (content.strip().startsWith("{")) {
+      // state saved in JSON by an earlier version, written in the compact format on the next save
+      return (BackendState) JSON.toObject(content, BackendState.class);
+    }
+    return BackendStateCodec.decode(Base64.getDecoder().decode(content.strip()));
   }
 
   private void connectIfNeed() {
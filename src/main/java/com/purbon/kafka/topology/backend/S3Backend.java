@@ -3,10 +3,8 @@ package com.purbon.kafka.topology.backend;
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.purbon.kafka.topology.Configuration;
-import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
@@ -46,14 +44,13 @@ public class S3Backend implements Backend {
 
   @Override
   public void save(BackendState state) throws IOException {
-    flushRemoteStateContent(state.asJson(), STATE_FILE_NAME);
+    flushRemoteStateContent(BackendStateCodec.encode(state), STATE_FILE_NAME);
   }
 
   @Override
   public BackendState load() {
     try {
-      String content = getRemoteStateContent(STATE_FILE_NAME);
-      return (BackendState) JSON.toObject(content, BackendState.class);
+      return BackendStateCodec.decode(getRemoteStateContent(STATE_FILE_NAME));
     } catch (IOException ex) {
       LOGGER.debug(ex);
       return new BackendState();
@@ -65,25 +62,24 @@ public class S3Backend implements Backend {
     s3.close();
   }
 
-  private String getRemoteStateContent(String key) throws IOException {
+  private byte[] getRemoteStateContent(String key) throws IOException {
     GetObjectRequest request =
         GetObjectRequest.builder().key(key).bucket(config.getS3Bucket()).build();
 
     try {
       ResponseBytes<GetObjectResponse> objectBytes = s3.getObjectAsBytes(request);
-      return objectBytes.asString(StandardCharsets.UTF_8);
+      return objectBytes.asByteArray();
     } catch (S3Exception ex) {
       LOGGER.debug(ex);
       throw new IOException(ex);
     }
   }
 
-  private String flushRemoteStateContent(String content, String key) throws IOException {
+  private String flushRemoteStateContent(byte[] content, String key) throws IOException {
     PutObjectRequest request =
         PutObjectRequest.builder().bucket(config.getS3Bucket()).key(key).build();
     try {
-      PutObjectResponse response =
-          s3.putObject(request, RequestBody.fromString(content, StandardCharsets.UTF_8));
+      PutObjectResponse response = s3.putObject(request, RequestBody.fromBytes(content));
       return response.eTag();
     } catch (S3Exception ex) {
       LOGGER.error(ex);
@@ -0,0 +1,23 @@
+package com.purbon.kafka.topology.backend.kafka;
+
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.backend.BackendStateCodec;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/** Reads the compact state, and the JSON state written to the topic by earlier versions. */
+public class BackendStateDeserializer implements Deserializer<BackendState> {
+
+  @Override
+  public BackendState deserialize(String s, byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    try {
+      return BackendStateCodec.decode(bytes);
+    } catch (IOException e) {
+      throw new SerializationException(e);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.purbon.kafka.topology.backend.kafka;
+
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.backend.BackendStateCodec;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+public class BackendStateSerializer implements Serializer<BackendState> {
+
+  @Override
+  public void configure(Map<String, ?> props, boolean isKey) {
+    // nothing to do
+  }
+
+  @Override
+  public byte[] serialize(String topic, BackendState data) {
+    if (data == null) return null;
+
+    try {
+      return BackendStateCodec.encode(data);
+    } catch (Exception e) {
+      throw new SerializationException("Error serializing the backend state", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    // nothing to do
+  }
+}
@@ -6,11 +6,12 @@ import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.backend.BackendState;
 import com.purbon.kafka.topology.backend.KafkaBackend;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -18,16 +19,27 @@ import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.Serdes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class KafkaBackendConsumer {
 
+  private static final Logger LOGGER = LogManager.getLogger(KafkaBackendConsumer.class);
+
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+
   private Configuration config;
-  private KafkaConsumer<String, BackendState> consumer;
+  private Consumer<String, BackendState> consumer;
 
   private AtomicBoolean running;
 
   public KafkaBackendConsumer(Configuration config) {
+    this(config, null);
+  }
+
+  KafkaBackendConsumer(Configuration config, Consumer<String, BackendState> consumer) {
     this.config = config;
+    this.consumer = consumer;
     this.running = new AtomicBoolean(false);
   }
 
@@ -35,33 +47,70 @@ public class KafkaBackendConsumer {
     Properties consumerProperties = config.asProperties();
     consumerProperties.put(
         ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, Serdes.String().deserializer().getClass());
-    var serde = new JsonDeserializer<>(BackendState.class);
-    consumerProperties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, serde.getClass());
+    consumerProperties.put(
+        ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, BackendStateDeserializer.class);
 
     consumerProperties.put(GROUP_ID_CONFIG, config.getKafkaBackendConsumerGroupId());
     consumer = new KafkaConsumer<>(consumerProperties);
-
-    var topicPartition = new TopicPartition(config.getKafkaBackendStateTopic(), 0);
-    var topicPartitions = Collections.singletonList(topicPartition);
-    consumer.assign(topicPartitions);
-    consumer.seekToBeginning(topicPartitions);
   }
 
+  /**
+   * Read the state records until stopped. The initial load only reads the last records of each
+   * partition, up to the configured tail, and reads further back only when the tail does not hold
+   * a record of this instance. It is finished once the end offsets found at the start are reached.
+   */
   public void retrieve(KafkaBackend callback) {
-    int times = 0;
+    String instanceId = config.getJulieInstanceId();
+    List<TopicPartition> partitions = new ArrayList<>();
+    for (PartitionInfo info : consumer.partitionsFor(config.getKafkaBackendStateTopic())) {
+      partitions.add(new TopicPartition(info.topic(), info.partition()));
+    }
+    consumer.assign(partitions);
+    Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+    Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+    long tail = config.getKafkaBackendConsumerTailRecords();
+    boolean fromBeginning = !seekToTail(beginningOffsets, endOffsets, tail);
+    boolean loading = true;
+    boolean found = false;
     while (running.get()) {
-      ConsumerRecords<String, BackendState> records = consumer.poll(Duration.ofSeconds(10));
-      callback.complete();
+      if (loading && endReached(endOffsets)) {
+        if (found || fromBeginning) {
+          LOGGER.debug(String.format("State loaded from the last %d records", tail));
+          callback.initialLoadFinish();
+          loading = false;
+        } else {
+          tail *= 2;
+          fromBeginning = !seekToTail(beginningOffsets, endOffsets, tail);
+        }
+        continue;
+      }
+      ConsumerRecords<String, BackendState> records = consumer.poll(POLL_TIMEOUT);
       for (ConsumerRecord<String, BackendState> record : records) {
+        found |= instanceId.equals(record.key());
         callback.apply(record);
       }
-      if (records.count() > 0 || times >= config.getKafkaBackendConsumerRetries()) {
-        callback.initialLoadFinish();
-      }
-      times += 1;
     }
   }
 
+  /** Seek each partition to its tail, tell if any record was left before the tail. */
+  private boolean seekToTail(
+      Map<TopicPartition, Long> beginningOffsets, Map<TopicPartition, Long> endOffsets, long tail) {
+    boolean truncated = false;
+    for (TopicPartition partition : endOffsets.keySet()) {
+      long beginning = beginningOffsets.get(partition);
+      long offset = Math.max(beginning, endOffsets.get(partition) - tail);
+      consumer.seek(partition, offset);
+      truncated |= offset > beginning;
+    }
+    return truncated;
+  }
+
+  private boolean endReached(Map<TopicPartition, Long> endOffsets) {
+    return endOffsets.entrySet().stream()
+        .allMatch(e -> consumer.position(e.getKey()) >= e.getValue());
+  }
+
   public void stop() {
     running.set(false);
     consumer.wakeup();
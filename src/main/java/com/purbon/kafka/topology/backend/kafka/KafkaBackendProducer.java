@@ -29,8 +29,7 @@ public class KafkaBackendProducer {
   public void configure() {
     Properties props = config.asProperties();
     props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, Serdes.String().serializer().getClass());
-    var serde = new JsonSerializer<BackendState>();
-    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, serde.getClass());
+    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, BackendStateSerializer.class);
     props.put(ProducerConfig.ACKS_CONFIG, "all");
     props.put(ProducerConfig.RETRIES_CONFIG, Integer.MAX_VALUE);
     producer = new KafkaProducer<>(props);
@@ -0,0 +1,192 @@
+package com.purbon.kafka.topology.clients;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Throughput control for the requests sent by a single client. A token bucket caps the number of
+ * requests per second, and an adaptive window caps the number of requests in flight. The window
+ * starts at one request, grows while the responses are healthy and is halved when the server
+ * throttles (429 or 503) or when the latency spikes, never going over the configured maximum.
+ *
+ * <p>Requests waiting for a token or for a slot in the window are queued, no thread is blocked.
+ * Queued requests are started on the executor, so a burst of responses does not start them from
+ * within each other's completion.
+ */
+class HttpLimiter {
+
+  private static final Logger LOGGER = LogManager.getLogger(HttpLimiter.class);
+
+  // a response this many times, and this much, slower than the average is a sign of overload
+  private static final double LATENCY_SPIKE_FACTOR = 3.0;
+  private static final long LATENCY_SPIKE_MIN_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final double maxRequestsPerSecond;
+  private final int maxInFlight;
+  private final Queue<Runnable> pending;
+  private final Executor executor;
+
+  private double requestsPerSecond;
+  private long nextTokenAtNanos;
+  private double window;
+  private boolean slowStart;
+  private int inFlight;
+  private double averageLatencyNanos;
+  private long lastDecreaseNanos;
+
+  HttpLimiter(double maxRequestsPerSecond, int maxInFlight) {
+    this(maxRequestsPerSecond, maxInFlight, ForkJoinPool.commonPool());
+  }
+
+  HttpLimiter(double maxRequestsPerSecond, int maxInFlight, Executor executor) {
+    this.maxRequestsPerSecond = maxRequestsPerSecond;
+    this.maxInFlight = maxInFlight;
+    this.pending = new ArrayDeque<>();
+    this.executor = executor;
+    this.requestsPerSecond = maxRequestsPerSecond;
+    this.nextTokenAtNanos = System.nanoTime();
+    this.window = 1;
+    this.slowStart = true;
+    this.inFlight = 0;
+    this.averageLatencyNanos = 0;
+    this.lastDecreaseNanos = 0;
+  }
+
+  /** Return a limiter for the given limits, or null when no limit is configured. */
+  static HttpLimiter of(double maxRequestsPerSecond, int maxInFlight) {
+    if (maxRequestsPerSecond <= 0 && maxInFlight <= 0) {
+      return null;
+    }
+    return new HttpLimiter(maxRequestsPerSecond, maxInFlight);
+  }
+
+  <T> CompletableFuture<HttpResponse<T>> submit(Supplier<CompletableFuture<HttpResponse<T>>> call) {
+    CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+    Runnable task =
+        () -> {
+          long start = System.nanoTime();
+          CompletableFuture<HttpResponse<T>> response;
+          try {
+            response = call.get();
+          } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+          }
+          response.whenComplete(
+              (r, error) -> {
+                release(r, System.nanoTime() - start);
+                if (error != null) {
+                  result.completeExceptionally(error);
+                } else {
+                  result.complete(r);
+                }
+              });
+        };
+    synchronized (this) {
+      pending.add(task);
+    }
+    drain();
+    return result;
+  }
+
+  private void drain() {
+    while (true) {
+      Runnable task;
+      long delayNanos;
+      synchronized (this) {
+        if (pending.isEmpty() || (maxInFlight > 0 && inFlight >= currentWindow())) {
+          return;
+        }
+        task = pending.poll();
+        inFlight++;
+        delayNanos = reserveToken();
+      }
+      if (delayNanos > 0) {
+        CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, executor).execute(task);
+      } else {
+        executor.execute(task);
+      }
+    }
+  }
+
+  /** Take the next token of the bucket, returning how long to wait until it is available. */
+  private long reserveToken() {
+    if (maxRequestsPerSecond <= 0) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    long interval = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+    // allow a burst of up to one second worth of requests after an idle period
+    long earliest = now - TimeUnit.SECONDS.toNanos(1) + interval;
+    long tokenAt = Math.max(nextTokenAtNanos, earliest);
+    nextTokenAtNanos = tokenAt + interval;
+    return Math.max(0, tokenAt - now);
+  }
+
+  private int currentWindow() {
+    return maxInFlight > 0 ? (int) Math.min(maxInFlight, Math.floor(window)) : Integer.MAX_VALUE;
+  }
+
+  private void release(HttpResponse<?> response, long latencyNanos) {
+    synchronized (this) {
+      inFlight--;
+      boolean throttled =
+          response != null && (response.statusCode() == 429 || response.statusCode() == 503);
+      boolean slow =
+          averageLatencyNanos > 0
+              && latencyNanos > LATENCY_SPIKE_FACTOR * averageLatencyNanos
+              && latencyNanos - averageLatencyNanos > LATENCY_SPIKE_MIN_NANOS;
+      averageLatencyNanos =
+          averageLatencyNanos == 0 ? latencyNanos : 0.9 * averageLatencyNanos + 0.1 * latencyNanos;
+
+      if (throttled || slow) {
+        decrease(throttled);
+      } else if (response != null) {
+        increase();
+      }
+    }
+    drain();
+  }
+
+  private void decrease(boolean throttled) {
+    long now = System.nanoTime();
+    // the responses of the requests sent together report the same congestion, react once
+    if (!slowStart && now - lastDecreaseNanos < averageLatencyNanos) {
+      return;
+    }
+    lastDecreaseNanos = now;
+    slowStart = false;
+    window = Math.max(1, window / 2);
+    if (throttled && maxRequestsPerSecond > 0) {
+      requestsPerSecond = Math.max(Math.min(1, maxRequestsPerSecond), requestsPerSecond / 2);
+    }
+    LOGGER.debug(
+        String.format(
+            "Backing off to %d requests in flight and %.1f requests per second",
+            currentWindow(), requestsPerSecond));
+  }
+
+  private void increase() {
+    if (maxInFlight > 0 && window < maxInFlight) {
+      window = Math.min(maxInFlight, slowStart ? window + 1 : window + 1 / window);
+    }
+    if (requestsPerSecond < maxRequestsPerSecond) {
+      requestsPerSecond = Math.min(maxRequestsPerSecond, requestsPerSecond + 1);
+    }
+  }
+
+  synchronized int getWindow() {
+    return currentWindow();
+  }
+
+  synchronized double getRequestsPerSecond() {
+    return requestsPerSecond;
+  }
+}
@@ -2,6 +2,7 @@ package com.purbon.kafka.topology.clients;
 
 import static java.net.http.HttpRequest.BodyPublishers.noBody;
 import static java.net.http.HttpRequest.BodyPublishers.ofString;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.mds.Response;
@@ -23,8 +24,15 @@ import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
@@ -46,12 +54,22 @@ public class JulieHttpClient {
 
   private int retryTimes;
   private int backoffTimesMs;
+  private int maxBackoffTimesMs;
+  private HttpLimiter limiter;
 
   public JulieHttpClient(String server) throws IOException {
     this(server, Optional.empty());
   }
 
   public JulieHttpClient(String server, Optional<Configuration> configOptional) throws IOException {
+    this(server, configOptional, "default");
+  }
+
+  /**
+   * @param service name of the service behind the server, used to pick its request limits
+   */
+  public JulieHttpClient(String server, Optional<Configuration> configOptional, String service)
+      throws IOException {
     this.server = server;
     this.token = "";
     this.httpClient = configureHttpOrHttpsClient(configOptional);
@@ -59,10 +77,16 @@ public class JulieHttpClient {
         e -> {
           retryTimes = e.getHttpRetryTimes();
           backoffTimesMs = e.getHttpBackoffTimeMs();
+          maxBackoffTimesMs = e.getHttpMaxBackoffTimeMs();
+          limiter =
+              HttpLimiter.of(
+                  e.getHttpMaxRequestsPerSecond(service), e.getHttpMaxRequestsInFlight(service));
         },
         () -> {
           retryTimes = 0;
           backoffTimesMs = 0;
+          maxBackoffTimesMs = 0;
+          limiter = null;
         });
   }
 
@@ -72,12 +96,18 @@ public class JulieHttpClient {
             .timeout(Duration.ofMillis(timeoutMs))
             .header("accept", " application/json")
             .header("Content-Type", "application/json");
-    if (!token.isBlank()) {
-      builder = builder.header("Authorization", token);
+    String authorization = authorization(url);
+    if (!authorization.isBlank()) {
+      builder = builder.header("Authorization", authorization);
     }
     return builder;
   }
 
+  /** Value of the authorization header sent with a request to the given url, if not blank. */
+  protected String authorization(String url) {
+    return token;
+  }
+
   protected HttpClient configureHttpOrHttpsClient(Optional<Configuration> configOptional)
       throws IOException {
     if (configOptional.isEmpty()) {
@@ -161,8 +191,12 @@ public class JulieHttpClient {
   }
 
   public Response doGet(String url) throws IOException {
+    return await(doGetAsync(url));
+  }
+
+  public CompletableFuture<Response> doGetAsync(String url) {
     HttpRequest request = getRequest(url, DEFAULT_TIMEOUT_MS);
-    return doGet(request);
+    return doGetAsync(request);
   }
 
   private HttpRequest getRequest(String url, long timeoutMs) {
@@ -170,9 +204,13 @@ public class JulieHttpClient {
   }
 
   public String doPost(String url, String body) throws IOException {
+    return await(doPostAsync(url, body));
+  }
+
+  public CompletableFuture<String> doPostAsync(String url, String body) {
     LOGGER.debug("doPost: " + url + " body: " + body);
     HttpRequest request = postRequest(url, body, DEFAULT_TIMEOUT_MS);
-    return doRequest(request);
+    return doRequestAsync(request);
   }
 
   private HttpRequest postRequest(String url, String body, long timeoutMs) {
@@ -182,13 +220,17 @@ public class JulieHttpClient {
   protected void doPut(String url) throws IOException {
     LOGGER.debug("doPut: " + url);
     HttpRequest request = putRequest(url, DEFAULT_TIMEOUT_MS);
-    doRequest(request);
+    await(doRequestAsync(request));
   }
 
   protected String doPut(String url, String body) throws IOException {
+    return await(doPutAsync(url, body));
+  }
+
+  public CompletableFuture<String> doPutAsync(String url, String body) {
     LOGGER.debug("doPut: " + url + " body: " + body);
     HttpRequest request = putRequest(url, ofString(body), DEFAULT_TIMEOUT_MS);
-    return doRequest(request);
+    return doRequestAsync(request);
   }
 
   private HttpRequest putRequest(String url, long timeoutMs) {
@@ -204,9 +246,13 @@ public class JulieHttpClient {
   }
 
   public void doDelete(String url, String body) throws IOException {
+    await(doDeleteAsync(url, body));
+  }
+
+  public CompletableFuture<String> doDeleteAsync(String url, String body) {
     LOGGER.debug("doDelete: " + url + " body: " + body);
     HttpRequest request = deleteRequest(url, body, DEFAULT_TIMEOUT_MS);
-    doRequest(request);
+    return doRequestAsync(request);
   }
 
   private HttpRequest deleteRequest(String url, String body, long timeoutMs) {
@@ -217,75 +263,84 @@ public class JulieHttpClient {
   }
 
   protected Response doGet(HttpRequest request) throws IOException {
+    return await(doGetAsync(request));
+  }
+
+  protected CompletableFuture<Response> doGetAsync(HttpRequest request) {
     LOGGER.debug("method: " + request.method() + " request.uri: " + request.uri());
-    try {
-      var handler = HttpResponse.BodyHandlers.ofString();
-      HttpResponse<String> response = sendAsync(request, handler).get();
-      LOGGER.debug("method: " + request.method() + " response: " + response);
-      return new Response(response);
-    } catch (Exception ex) {
-      throw new IOException(ex);
-    }
+    return sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        .thenApply(
+            response -> {
+              LOGGER.debug("method: " + request.method() + " response: " + response);
+              return new Response(response);
+            });
   }
 
-  private String doRequest(HttpRequest request) throws IOException {
+  private CompletableFuture<String> doRequestAsync(HttpRequest request) {
     LOGGER.debug("method: " + request.method() + " request.uri: " + request.uri());
-    String result = "";
-    try {
-      var handler = HttpResponse.BodyHandlers.ofString();
-      HttpResponse<String> response = sendAsync(request, handler).get();
-      LOGGER.debug("method: " + request.method() + " response: " + response);
-      int statusCode = response.statusCode();
-      if (statusCode < 200 || statusCode > 299) {
-        String body = response.body() != null ? response.body() : "";
-        throw new IOException(
-            "Something happened with the connection, response status code: "
-                + statusCode
-                + " body: "
-                + body);
-      }
+    return sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        .thenApply(
+            response -> {
+              LOGGER.debug("method: " + request.method() + " response: " + response);
+              int statusCode = response.statusCode();
+              if (statusCode < 200 || statusCode > 299) {
+                String body = response.body() != null ? response.body() : "";
+                throw new CompletionException(
+                    new IOException(
+                        "Something happened with the connection, response status code: "
+                            + statusCode
+                            + " body: "
+                            + body));
+              }
+              return response.body() != null ? response.body() : "";
+            });
+  }
 
-      if (response.body() != null) {
-        result = response.body();
-      }
-    } catch (Exception ex) {
-      throw new IOException(ex);
+  private static <T> T await(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.join();
+    } catch (CompletionException | CancellationException ex) {
+      throw new IOException(ex.getCause() != null ? ex.getCause() : ex);
     }
-    return result;
   }
 
   private CompletableFuture<HttpResponse<String>> sendAsync(
       HttpRequest request, HttpResponse.BodyHandler<String> handler) {
-    return httpClient
-        .sendAsync(request, handler)
-        .handleAsync((response, throwable) -> tryResend(request, handler, 1, response, throwable))
-        .thenCompose(Function.identity());
+    return sendAsync(request, handler, 1);
   }
 
-  private CompletableFuture<HttpResponse<String>> tryResend(
-      HttpRequest request,
-      HttpResponse.BodyHandler<String> handler,
-      int count,
-      HttpResponse<String> response,
-      Throwable throwable) {
-
-    if (shouldRetry(response, throwable, count)) {
-      System.out.println("shouldRetry: count=" + count);
-      return httpClient
-          .sendAsync(request, handler)
-          .handleAsync((r, t) -> tryResend(request, handler, count + 1, r, t))
-          .thenCompose(Function.identity());
-    } else if (throwable != null) {
-      return CompletableFuture.failedFuture(throwable);
-    } else {
-      return CompletableFuture.completedFuture(response);
-    }
+  /**
+   * Send the request, retrying it on connection errors and on 429 and 503 responses. Retries are
+   * scheduled after their delay instead of sleeping, so no thread is held while waiting.
+   */
+  private CompletableFuture<HttpResponse<String>> sendAsync(
+      HttpRequest request, HttpResponse.BodyHandler<String> handler, int count) {
+    CompletableFuture<HttpResponse<String>> attempt =
+        limiter == null
+            ? httpClient.sendAsync(request, handler)
+            : limiter.submit(() -> httpClient.sendAsync(request, handler));
+    return attempt
+        .handle(
+            (response, throwable) -> {
+              if (!shouldRetry(response, count)) {
+                return throwable != null
+                    ? CompletableFuture.<HttpResponse<String>>failedFuture(throwable)
+                    : CompletableFuture.completedFuture(response);
+              }
+              long delayMs = retryDelayMs(response, count);
+              LOGGER.debug(
+                  String.format(
+                      "Retrying %s %s in %d ms, attempt %d",
+                      request.method(), request.uri(), delayMs, count));
+              Executor delayed = CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS);
+              return CompletableFuture.supplyAsync(() -> request, delayed)
+                  .thenCompose(r -> sendAsync(r, handler, count + 1));
+            })
+        .thenCompose(Function.identity());
   }
 
-  private boolean shouldRetry(HttpResponse<String> response, Throwable throwable, int count) {
+  private boolean shouldRetry(HttpResponse<String> response, int count) {
     if (response != null && !isRetrievableStatusCode(response) || count >= retryTimes) return false;
-    var backoffTime = backoff(count);
-    LOGGER.debug("Sleeping before retry on " + backoffTime + " ms");
     return true;
   }
 
@@ -293,15 +348,40 @@ public class JulieHttpClient {
     return response.statusCode() == 429 || response.statusCode() == 503;
   }
 
-  private int backoff(int count) {
-    int backoff = 0;
-    try {
-      backoff = this.backoffTimesMs + (10 * count);
-      Thread.sleep(backoff);
-    } catch (Exception ex) {
-      LOGGER.error(ex);
+  private long retryDelayMs(HttpResponse<String> response, int count) {
+    if (response != null) {
+      Optional<Long> retryAfter = retryAfterMs(response);
+      if (retryAfter.isPresent()) {
+        // never wait longer than configured, whatever the server asks for
+        return Math.min(retryAfter.get(), maxBackoffTimesMs);
+      }
     }
-    return backoff;
+    // add some jitter, so the requests throttled together are not retried all at once
+    long backoff = this.backoffTimesMs + (10L * count);
+    return backoff + ThreadLocalRandom.current().nextLong(backoff / 4 + 1);
+  }
+
+  /** Delay requested by the server with a Retry-After header, in seconds or as a date. */
+  static Optional<Long> retryAfterMs(HttpResponse<?> response) {
+    return response
+        .headers()
+        .firstValue("Retry-After")
+        .map(String::trim)
+        .flatMap(
+            value -> {
+              try {
+                return Optional.of(Math.max(0, Long.parseLong(value)) * 1000);
+              } catch (NumberFormatException e) {
+                // not a number of seconds, so it should be a date
+              }
+              try {
+                long at = ZonedDateTime.parse(value, RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+                return Optional.of(Math.max(0, at - System.currentTimeMillis()));
+              } catch (DateTimeParseException e) {
+                LOGGER.debug("Ignoring invalid Retry-After header " + value);
+                return Optional.empty();
+              }
+            });
   }
 
   public String baseUrl() {
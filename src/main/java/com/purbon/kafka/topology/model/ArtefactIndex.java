@@ -0,0 +1,57 @@
+package com.purbon.kafka.topology.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lookup view over a collection of artefacts, to find the one a given artefact matches without
+ * scanning the whole collection. Matching follows {@link Artefact#equals(Object)} of the indexed
+ * artefacts: one with a server label matches on label and name, one without on the name only.
+ */
+public class ArtefactIndex {
+
+  private final List<Artefact> artefacts;
+  private final Map<List<String>, Integer> byLabelAndName;
+  private final Map<String, Integer> byName;
+
+  public ArtefactIndex(Collection<? extends Artefact> artefacts) {
+    this.artefacts = new ArrayList<>(artefacts);
+    this.byLabelAndName = new HashMap<>();
+    this.byName = new HashMap<>();
+    for (int i = 0; i < this.artefacts.size(); i++) {
+      Artefact artefact = this.artefacts.get(i);
+      String name = artefact.getName().toLowerCase();
+      if (artefact.getServerLabel() != null) {
+        byLabelAndName.putIfAbsent(key(artefact.getServerLabel(), name), i);
+      } else {
+        byName.putIfAbsent(name, i);
+      }
+    }
+  }
+
+  /** Return the first indexed artefact equal to the given one, in the order of the collection. */
+  public Optional<Artefact> find(Artefact artefact) {
+    String name = artefact.getName().toLowerCase();
+    Integer position = byName.get(name);
+    if (artefact.getServerLabel() != null) {
+      Integer labelled = byLabelAndName.get(key(artefact.getServerLabel(), name));
+      if (labelled != null && (position == null || labelled < position)) {
+        position = labelled;
+      }
+    }
+    return Optional.ofNullable(position).map(artefacts::get);
+  }
+
+  public boolean contains(Artefact artefact) {
+    return find(artefact).isPresent();
+  }
+
+  private static List<String> key(String serverLabel, String name) {
+    return Arrays.asList(serverLabel.toLowerCase(), name);
+  }
+}
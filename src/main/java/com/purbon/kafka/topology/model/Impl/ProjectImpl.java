@@ -14,7 +14,7 @@ import com.purbon.kafka.topology.model.users.KStream;
 import com.purbon.kafka.topology.model.users.Other;
 import com.purbon.kafka.topology.model.users.Producer;
 import com.purbon.kafka.topology.model.users.Schemas;
-import com.purbon.kafka.topology.utils.JinjaUtils;
+import com.purbon.kafka.topology.utils.NameTemplate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -39,6 +39,9 @@ public class ProjectImpl implements Project, Cloneable {
   @JsonIgnore private List<String> order;
   @JsonIgnore private Map<String, Object> prefixContext;
 
+  // computed on first use, reset when the prefix context or order change
+  @JsonIgnore private String cachedNamePrefix;
+
   public ProjectImpl() {
     this("default");
   }
@@ -191,7 +194,9 @@ public class ProjectImpl implements Project, Cloneable {
 
   public void addTopic(Topic topic) {
     topic.setProjectPrefix(namePrefix());
-    prefixContext.put("project", getName());
+    if (!getName().equals(prefixContext.put("project", getName()))) {
+      cachedNamePrefix = null;
+    }
     topic.setContext(prefixContext);
     this.topics.add(topic);
   }
@@ -202,12 +207,19 @@ public class ProjectImpl implements Project, Cloneable {
   }
 
   public String namePrefix() {
-    if (config.getProjectPrefixFormat().equals("default")) return namePrefix(buildNamePrefix());
-    else return patternBasedProjectPrefix();
+    String current = cachedNamePrefix;
+    if (current == null) {
+      current =
+          config.getProjectPrefixFormat().equals("default")
+              ? namePrefix(buildNamePrefix())
+              : patternBasedProjectPrefix();
+      cachedNamePrefix = current;
+    }
+    return current;
   }
 
   private String patternBasedProjectPrefix() {
-    return JinjaUtils.serialise(config.getProjectPrefixFormat(), prefixContext);
+    return NameTemplate.compile(config.getProjectPrefixFormat()).render(prefixContext);
   }
 
   private String namePrefix(String topologyPrefix) {
@@ -241,7 +253,9 @@ public class ProjectImpl implements Project, Cloneable {
   public void setPrefixContextAndOrder(Map<String, Object> prefixContext, List<String> order) {
     this.prefixContext = prefixContext;
     this.prefixContext.put("project", getName());
-    this.order = order;
+    // the topology keeps adding to its order, the prefix is built from the context given here
+    this.order = new ArrayList<>(order);
+    this.cachedNamePrefix = null;
   }
 
   @Override
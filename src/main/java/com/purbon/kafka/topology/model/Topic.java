@@ -8,12 +8,13 @@ import com.purbon.kafka.topology.TopicManager;
 import com.purbon.kafka.topology.model.schema.TopicSchemas;
 import com.purbon.kafka.topology.model.users.Consumer;
 import com.purbon.kafka.topology.model.users.Producer;
-import com.purbon.kafka.topology.utils.JinjaUtils;
+import com.purbon.kafka.topology.utils.NameTemplate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -53,6 +54,12 @@ public class Topic implements Cloneable {
   @JsonInclude(Include.NON_EMPTY)
   private Optional<SubjectNameStrategy> subjectNameStrategy;
 
+  // computed on first use, reset by the setters of the fields it is built from
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private String fullName;
+
   public Topic() {
     this(DEFAULT_TOPIC_NAME, Optional.empty(), new HashMap<>(), new Configuration());
   }
@@ -155,7 +162,7 @@ public class Topic implements Cloneable {
       context.put("dlq", dlqPrefix);
     }
     dataType.ifPresentOrElse(s -> context.put("dataType", s), () -> context.remove("dataType"));
-    return JinjaUtils.serialise(topicNamePattern, context);
+    return NameTemplate.compile(topicNamePattern).render(context);
   }
 
   private String defaultTopicStructureString(String projectPrefix) {
@@ -178,7 +185,47 @@ public class Topic implements Cloneable {
 
   @Override
   public String toString() {
-    return toString(projectPrefix);
+    String current = fullName;
+    if (current == null) {
+      current = toString(projectPrefix);
+      fullName = current;
+    }
+    return current;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+    this.fullName = null;
+  }
+
+  public void setDataType(Optional<String> dataType) {
+    this.dataType = dataType;
+    this.fullName = null;
+  }
+
+  public void setDlqPrefix(String dlqPrefix) {
+    this.dlqPrefix = dlqPrefix;
+    this.fullName = null;
+  }
+
+  public void setAppConfig(Configuration appConfig) {
+    this.appConfig = appConfig;
+    this.fullName = null;
+  }
+
+  public void setContext(Map<String, Object> context) {
+    this.context = context;
+    this.fullName = null;
+  }
+
+  public void setProjectPrefix(String projectPrefix) {
+    this.projectPrefix = projectPrefix;
+    this.fullName = null;
+  }
+
+  public void setTopicNamePattern(String topicNamePattern) {
+    this.topicNamePattern = topicNamePattern;
+    this.fullName = null;
   }
 
   @JsonIgnore
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.quotas;
 
+import com.purbon.kafka.topology.ClusterSnapshot;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.ExecutionPlan;
 import com.purbon.kafka.topology.ExecutionPlanUpdater;
@@ -8,6 +9,7 @@ import com.purbon.kafka.topology.actions.quotas.DeleteQuotasAction;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.users.Quota;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
@@ -24,12 +26,17 @@ public class QuotasManager implements ExecutionPlanUpdater {
     this.config = config;
   }
 
+  @Override
+  public void prefetchClusterState(ClusterSnapshot snapshot) {
+    snapshot.prefetch(ClusterSnapshot.QUOTAS, this::describeClientQuotas);
+  }
+
   @Override
   public void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) {
     // Get current quotas
     try {
       Map<ClientQuotaEntity, Map<String, Double>> currentQuotas =
-          adminClient.describeClientQuotas();
+          plan.getClusterSnapshot().get(ClusterSnapshot.QUOTAS, this::describeClientQuotas);
       Map<String, Map<String, Double>> currentUsersWithQuotas =
           currentQuotas.entrySet().stream()
               .collect(
@@ -67,11 +74,19 @@ public class QuotasManager implements ExecutionPlanUpdater {
                   adminClient, new ArrayList<>(currentUsersWithQuotas.keySet())));
         }
       }
-    } catch (ExecutionException | InterruptedException e) {
+    } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private Map<ClientQuotaEntity, Map<String, Double>> describeClientQuotas() throws IOException {
+    try {
+      return adminClient.describeClientQuotas();
+    } catch (ExecutionException | InterruptedException e) {
+      throw new IOException(e);
+    }
+  }
+
   private boolean isQuotaUpdated(Map<String, Double> currentQuotasForPrincipal, Quota quota) {
     Double consumerByteRate = currentQuotasForPrincipal.get("consumer_byte_rate");
     if (quota.getConsumer_byte_rate().isEmpty() && consumerByteRate != null
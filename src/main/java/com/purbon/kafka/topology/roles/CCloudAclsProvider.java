@@ -12,6 +12,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -21,31 +25,92 @@ public class CCloudAclsProvider extends SimpleAclsProvider implements AccessCont
 
   private final CCloudApi cli;
   private final String clusterId;
+  private final int parallelism;
   private CCloudUtils cCloudUtils;
 
   public CCloudAclsProvider(
       final TopologyBuilderAdminClient adminClient, final Configuration config) throws IOException {
+    this(
+        adminClient,
+        config,
+        new CCloudApi(config.getConfluentCloudClusterUrl(), config),
+        new CCloudUtils(config));
+  }
+
+  CCloudAclsProvider(
+      TopologyBuilderAdminClient adminClient,
+      Configuration config,
+      CCloudApi cli,
+      CCloudUtils cCloudUtils) {
     super(adminClient);
-    this.cli = new CCloudApi(config.getConfluentCloudClusterUrl(), config);
+    this.cli = cli;
     this.clusterId = config.getConfluentCloudClusterId();
-    this.cCloudUtils = new CCloudUtils(config);
+    this.parallelism = config.getConfluentCloudAclsParallelism();
+    this.cCloudUtils = cCloudUtils;
   }
 
   @Override
   public void createBindings(Set<TopologyAclBinding> bindings) throws IOException {
-    var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
-    for (TopologyAclBinding binding : bindings) {
-      cli.createAcl(
-          clusterId, cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
-    }
+    apply(translate(bindings), binding -> cli.createAclAsync(clusterId, binding));
   }
 
   @Override
   public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
-    var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
+    apply(translate(bindings), binding -> cli.deleteAclsAsync(clusterId, binding));
+  }
+
+  private List<TopologyAclBinding> translate(Set<TopologyAclBinding> bindings)
+      throws IOException {
+    var serviceAccountIdByNameMap = cCloudUtils.lookupTable(this.cli, bindings);
+    List<TopologyAclBinding> translatedBindings = new ArrayList<>();
     for (TopologyAclBinding binding : bindings) {
-      cli.deleteAcls(
-          clusterId, cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
+      translatedBindings.add(cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
+    }
+    return translatedBindings;
+  }
+
+  /**
+   * Send a request for each binding, with up to the configured parallelism of them in flight. After
+   * a failure no new request is sent, and the errors are raised once the ongoing ones completed.
+   */
+  private void apply(
+      List<TopologyAclBinding> bindings,
+      Function<TopologyAclBinding, CompletableFuture<String>> request)
+      throws IOException {
+    Semaphore window = new Semaphore(Math.max(1, parallelism));
+    List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+    List<CompletableFuture<String>> requests = new ArrayList<>();
+    try {
+      for (TopologyAclBinding binding : bindings) {
+        window.acquire();
+        if (!errors.isEmpty()) {
+          break;
+        }
+        requests.add(
+            request
+                .apply(binding)
+                .whenComplete(
+                    (response, error) -> {
+                      if (error != null) {
+                        errors.add(error instanceof CompletionException ? error.getCause() : error);
+                      }
+                      window.release();
+                    }));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      errors.add(e);
+    }
+    CompletableFuture.allOf(requests.toArray(new CompletableFuture[0]))
+        .exceptionally(e -> null)
+        .join();
+
+    if (!errors.isEmpty()) {
+      Throwable first = errors.get(0);
+      IOException exception =
+          first instanceof IOException ? (IOException) first : new IOException(first);
+      errors.stream().skip(1).forEach(exception::addSuppressed);
+      throw exception;
     }
   }
 
@@ -7,6 +7,7 @@ import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.api.ccloud.CCloudApi;
 import com.purbon.kafka.topology.utils.CCloudUtils;
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -26,14 +27,14 @@ public class HybridCCloudAclsProvider extends SimpleAclsProvider implements Acce
 
   public HybridCCloudAclsProvider(
       final TopologyBuilderAdminClient adminClient, final Configuration config) throws IOException {
-    super(adminClient);
+    super(adminClient, config);
     this.cli = new CCloudApi(config.getConfluentCloudClusterUrl(), config);
     this.cCloudUtils = new CCloudUtils(config);
   }
 
   @Override
   public void createBindings(Set<TopologyAclBinding> bindings) throws IOException {
-    var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
+    var serviceAccountIdByNameMap = cCloudUtils.lookupTable(this.cli, bindings);
     var mayBeTranslated =
         bindings.stream()
             .map(
@@ -68,10 +69,12 @@ public class HybridCCloudAclsProvider extends SimpleAclsProvider implements Acce
 
   @Override
   public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
-    var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
+    var serviceAccountIdByNameMap = cCloudUtils.lookupTable(this.cli, bindings);
+    Set<TopologyAclBinding> translatedBindings = new HashSet<>();
     for (TopologyAclBinding binding : bindings) {
-      adminClient.clearAcls(cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
+      translatedBindings.add(cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
     }
+    super.clearBindings(translatedBindings);
   }
 
   @Override
@@ -1,16 +1,23 @@
 package com.purbon.kafka.topology.roles;
 
 import com.purbon.kafka.topology.AccessControlProvider;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.mds.MDSApiClient;
 import com.purbon.kafka.topology.api.mds.RbacResourceType;
-import com.purbon.kafka.topology.api.mds.RequestScope;
+import com.purbon.kafka.topology.utils.Pair;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import org.apache.commons.lang3.StringUtils;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -18,59 +25,74 @@ public class RBACProvider implements AccessControlProvider {
 
   private static final Logger LOGGER = LogManager.getLogger(RBACProvider.class);
   private final MDSApiClient apiClient;
+  private final int lookupParallelism;
+  private final List<String> managedServiceAccountPrefixes;
 
   public RBACProvider(MDSApiClient apiClient) {
+    this(apiClient, 1, Collections.emptyList());
+  }
+
+  public RBACProvider(MDSApiClient apiClient, Configuration config) {
+    this(
+        apiClient,
+        config.getRbacLookupParallelism(),
+        config.getServiceAccountManagedPrefixes());
+  }
+
+  private RBACProvider(
+      MDSApiClient apiClient, int lookupParallelism, List<String> managedServiceAccountPrefixes) {
     this.apiClient = apiClient;
+    this.lookupParallelism = lookupParallelism;
+    this.managedServiceAccountPrefixes = managedServiceAccountPrefixes;
   }
 
   @Override
   public void createBindings(Set<TopologyAclBinding> bindings) throws IOException {
     LOGGER.debug("RBACProvider: createBindings");
-    for (TopologyAclBinding binding : bindings) {
-      apiClient.bindRequest(binding);
-    }
+    apiClient.bindRequests(bindings);
   }
 
   @Override
   public void clearBindings(Set<TopologyAclBinding> bindings) {
     LOGGER.debug("RBACProvider: clearAcls");
-    bindings.forEach(
-        aclBinding -> {
-          String principal = aclBinding.getPrincipal();
-          String role = aclBinding.getOperation();
-
-          RequestScope scope = new RequestScope();
-
-          String resourceType = StringUtils.capitalize(aclBinding.getResourceType().toLowerCase());
-
-          var clusterIds = apiClient.withClusterIDs().forKafka();
-
-          if (resourceType.equalsIgnoreCase("subject")) {
-            clusterIds = clusterIds.forSchemaRegistry();
-          } else if (resourceType.equalsIgnoreCase("connector")) {
-            clusterIds = clusterIds.forKafkaConnect();
-          } else if (resourceType.equalsIgnoreCase("KsqlCluster")) {
-            clusterIds = clusterIds.forKsql();
-          }
-
-          scope.setClusters(clusterIds.asMap());
-          scope.addResource(resourceType, aclBinding.getResourceName(), aclBinding.getPattern());
-          scope.build();
-
-          apiClient.deleteRole(principal, role, scope);
-        });
+    apiClient.deleteRoles(bindings);
   }
 
+  /**
+   * List the role bindings of every principal, for every role. The lookups are sent concurrently
+   * when a lookup parallelism bigger than one is configured, and principals outside of the managed
+   * service account prefixes are not looked up at all, their bindings would be ignored anyway.
+   */
   @Override
   public Map<String, List<TopologyAclBinding>> listAcls() {
-    Map<String, List<TopologyAclBinding>> map = new HashMap<>();
-    List<String> roleNames = apiClient.getRoleNames();
-    for (String roleName : roleNames) {
-      List<String> principalNames = apiClient.lookupKafkaPrincipalsByRoleForKafka(roleName);
-      for (String principalName : principalNames) {
-        List<RbacResourceType> resources =
-            apiClient.lookupResourcesForKafka(principalName, roleName);
-        for (RbacResourceType resource : resources) {
+    ExecutorService executor =
+        lookupParallelism > 1 ? Executors.newFixedThreadPool(lookupParallelism) : null;
+    try {
+      List<String> roleNames = apiClient.getRoleNames();
+      List<List<String>> principalsByRole =
+          lookup(executor, roleNames, apiClient::lookupKafkaPrincipalsByRoleForKafka);
+
+      List<Pair<String, String>> rolePrincipals = new ArrayList<>();
+      for (int i = 0; i < roleNames.size(); i++) {
+        for (String principalName : principalsByRole.get(i)) {
+          if (isManagedPrincipal(principalName)) {
+            rolePrincipals.add(new Pair<>(roleNames.get(i), principalName));
+          } else {
+            LOGGER.debug("Skipping the lookup of the not managed principal " + principalName);
+          }
+        }
+      }
+      List<List<RbacResourceType>> resourcesByRolePrincipal =
+          lookup(
+              executor,
+              rolePrincipals,
+              rp -> apiClient.lookupResourcesForKafka(rp.getValue(), rp.getKey()));
+
+      Map<String, List<TopologyAclBinding>> map = new HashMap<>();
+      for (int i = 0; i < rolePrincipals.size(); i++) {
+        String roleName = rolePrincipals.get(i).getKey();
+        String principalName = rolePrincipals.get(i).getValue();
+        for (RbacResourceType resource : resourcesByRolePrincipal.get(i)) {
           if (!map.containsKey(resource.getName())) {
             map.put(resource.getName(), new ArrayList<>());
           }
@@ -85,8 +107,43 @@ public class RBACProvider implements AccessControlProvider {
           map.get(resource.getName()).add(binding);
         }
       }
+      return map;
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private boolean isManagedPrincipal(String principal) {
+    return managedServiceAccountPrefixes.isEmpty()
+        || managedServiceAccountPrefixes.stream().anyMatch(principal::startsWith);
+  }
+
+  /** Run the lookup for every item, keeping their order, on the executor when there is one. */
+  private <T, R> List<R> lookup(ExecutorService executor, List<T> items, Function<T, R> lookup) {
+    if (executor == null || items.size() <= 1) {
+      return items.stream().map(lookup).collect(Collectors.toList());
+    }
+    List<Future<R>> futures =
+        items.stream()
+            .map(item -> executor.submit(() -> lookup.apply(item)))
+            .collect(Collectors.toList());
+    List<R> results = new ArrayList<>();
+    try {
+      for (Future<R> future : futures) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
     }
-    return map;
+    return results;
   }
 
   private String normalize(String resourceType) {
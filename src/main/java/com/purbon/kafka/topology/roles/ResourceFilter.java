@@ -22,8 +22,14 @@ public class ResourceFilter {
   }
 
   public boolean matchesManagedPrefixList(TopologyAclBinding topologyAclBinding) {
-    String resourceName = topologyAclBinding.getResourceName();
-    String principal = topologyAclBinding.getPrincipal();
+    return matchesManagedPrefixList(
+        topologyAclBinding.getResourceType(),
+        topologyAclBinding.getResourceName(),
+        topologyAclBinding.getPrincipal());
+  }
+
+  public boolean matchesManagedPrefixList(
+      String resourceType, String resourceName, String principal) {
     // For global wild cards ACL's we manage only if we manage the service account/principal,
     // regardless. Filtering by service account will always take precedence if defined
     if (hasServiceAccountPrefixFilters() || resourceName.equals("*")) {
@@ -31,24 +37,24 @@ public class ResourceFilter {
         return matchesServiceAccountPrefixList(principal);
       } else {
         return matchesServiceAccountPrefixList(principal)
-            && matchesTopicOrSubjectOrGroupPrefix(topologyAclBinding, resourceName);
+            && matchesTopicOrSubjectOrGroupPrefix(resourceType, resourceName);
       }
     } else if (hasTopicNamePrefixFilter()
         || hasGroupNamePrefixFilter()
         || hasSubjectNamePrefixFilter()) {
-      return matchesTopicOrSubjectOrGroupPrefix(topologyAclBinding, resourceName);
+      return matchesTopicOrSubjectOrGroupPrefix(resourceType, resourceName);
     }
 
     return true; // should include everything if not properly excluded earlier.
   }
 
   private boolean matchesTopicOrSubjectOrGroupPrefix(
-      TopologyAclBinding topologyAclBinding, String resourceName) {
-    if ("TOPIC".equalsIgnoreCase(topologyAclBinding.getResourceType())) {
+      String resourceType, String resourceName) {
+    if ("TOPIC".equalsIgnoreCase(resourceType)) {
       return matchesTopicPrefixList(resourceName);
-    } else if ("SUBJECT".equalsIgnoreCase(topologyAclBinding.getResourceType())) {
+    } else if ("SUBJECT".equalsIgnoreCase(resourceType)) {
       return matchesSubjectPrefixList(resourceName);
-    } else if ("GROUP".equalsIgnoreCase(topologyAclBinding.getResourceType())) {
+    } else if ("GROUP".equalsIgnoreCase(resourceType)) {
       return matchesGroupPrefixList(resourceName);
     } else {
       // Nothing to filter out here
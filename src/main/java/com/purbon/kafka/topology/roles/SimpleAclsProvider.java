@@ -1,6 +1,7 @@
 package com.purbon.kafka.topology.roles;
 
 import com.purbon.kafka.topology.AccessControlProvider;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import java.io.IOException;
 import java.util.HashMap;
@@ -17,9 +18,16 @@ public class SimpleAclsProvider implements AccessControlProvider {
   private static final Logger LOGGER = LogManager.getLogger(SimpleAclsProvider.class);
 
   protected final TopologyBuilderAdminClient adminClient;
+  private final int deleteBatchSize;
 
   public SimpleAclsProvider(final TopologyBuilderAdminClient adminClient) {
+    this(adminClient, new Configuration());
+  }
+
+  public SimpleAclsProvider(
+      final TopologyBuilderAdminClient adminClient, final Configuration config) {
     this.adminClient = adminClient;
+    this.deleteBatchSize = config.getAclsDeleteBatchSize();
   }
 
   @Override
@@ -37,13 +45,14 @@ public class SimpleAclsProvider implements AccessControlProvider {
   @Override
   public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
     LOGGER.debug("AclsProvider: clearAcls");
-    for (TopologyAclBinding binding : bindings) {
-      try {
-        adminClient.clearAcls(binding);
-      } catch (IOException ex) {
-        LOGGER.error(ex);
-        throw ex;
-      }
+    Map<TopologyAclBinding, Throwable> errors = adminClient.clearAcls(bindings, deleteBatchSize);
+    if (!errors.isEmpty()) {
+      String message =
+          String.format(
+              "Failed to delete %d out of %d bindings: %s",
+              errors.size(), bindings.size(), errors.keySet());
+      LOGGER.error(message);
+      throw new IOException(message, errors.values().iterator().next());
     }
   }
 
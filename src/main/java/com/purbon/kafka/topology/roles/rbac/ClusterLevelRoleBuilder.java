@@ -1,7 +1,6 @@
 package com.purbon.kafka.topology.roles.rbac;
 
-import static com.purbon.kafka.topology.api.mds.ClusterIDs.CONNECT_CLUSTER_ID_LABEL;
-
+import com.purbon.kafka.topology.api.mds.ClusterScopes;
 import com.purbon.kafka.topology.api.mds.MDSApiClient;
 import com.purbon.kafka.topology.api.mds.RequestScope;
 import com.purbon.kafka.topology.model.users.Connector;
@@ -25,8 +24,7 @@ public class ClusterLevelRoleBuilder {
   }
 
   public ClusterLevelRoleBuilder forSchemaRegistry() {
-    Map<String, Map<String, String>> clusters =
-        client.withClusterIDs().forSchemaRegistry().forKafka().asMap();
+    Map<String, Map<String, String>> clusters = client.clusterScopes().forSchemaRegistry();
 
     scope = new RequestScope();
     scope.setClusters(clusters);
@@ -40,8 +38,7 @@ public class ClusterLevelRoleBuilder {
   }
 
   public ClusterLevelRoleBuilder forSchemaSubject(String subject, String patternType) {
-    Map<String, Map<String, String>> clusters =
-        client.withClusterIDs().forSchemaRegistry().forKafka().asMap();
+    Map<String, Map<String, String>> clusters = client.clusterScopes().forSchemaRegistry();
 
     scope = new RequestScope();
     scope.setClusters(clusters);
@@ -56,8 +53,7 @@ public class ClusterLevelRoleBuilder {
   }
 
   public ClusterLevelRoleBuilder forAKafkaConnector(String connector, String patternType) {
-    Map<String, Map<String, String>> clusters =
-        client.withClusterIDs().forKafkaConnect().forKafka().asMap();
+    Map<String, Map<String, String>> clusters = client.clusterScopes().forKafkaConnect();
 
     scope = new RequestScope();
     scope.setClusters(clusters);
@@ -80,7 +76,7 @@ public class ClusterLevelRoleBuilder {
   }
 
   public ClusterLevelRoleBuilder forKafka() {
-    Map<String, Map<String, String>> clusters = client.withClusterIDs().forKafka().asMap();
+    Map<String, Map<String, String>> clusters = client.clusterScopes().forKafka();
 
     scope = new RequestScope();
     scope.setClusters(clusters);
@@ -90,7 +86,7 @@ public class ClusterLevelRoleBuilder {
   }
 
   public ClusterLevelRoleBuilder forControlCenter() {
-    Map<String, Map<String, String>> clusters = client.withClusterIDs().forKafka().asMap();
+    Map<String, Map<String, String>> clusters = client.clusterScopes().forKafka();
 
     scope = new RequestScope();
     scope.setClusters(clusters);
@@ -102,8 +98,7 @@ public class ClusterLevelRoleBuilder {
 
   public ClusterLevelRoleBuilder forKSqlServer(String clusterId) {
     client.setKSqlClusterID(clusterId);
-    Map<String, Map<String, String>> clusters =
-        client.withClusterIDs().forKsql().forKafka().asMap();
+    Map<String, Map<String, String>> clusters = client.clusterScopes().forKsql();
 
     scope = new RequestScope();
     scope.setClusters(clusters);
@@ -114,8 +109,7 @@ public class ClusterLevelRoleBuilder {
   }
 
   public ClusterLevelRoleBuilder forKafkaConnect() {
-    Map<String, Map<String, String>> clusters =
-        client.withClusterIDs().forKafkaConnect().forKafka().asMap();
+    Map<String, Map<String, String>> clusters = client.clusterScopes().forKafkaConnect();
 
     scope = new RequestScope();
     scope.setClusters(clusters);
@@ -127,12 +121,10 @@ public class ClusterLevelRoleBuilder {
   }
 
   public ClusterLevelRoleBuilder forKafkaConnect(Connector connector) {
-    Map<String, Map<String, String>> clusters =
-        client.withClusterIDs().forKafkaConnect().forKafka().asMap();
-
+    ClusterScopes scopes = client.clusterScopes();
     Optional<String> connectClusterIdOptional = connector.getCluster_id();
-    connectClusterIdOptional.ifPresent(
-        s -> clusters.get("clusters").put(CONNECT_CLUSTER_ID_LABEL, s));
+    Map<String, Map<String, String>> clusters =
+        connectClusterIdOptional.map(scopes::forKafkaConnect).orElseGet(scopes::forKafkaConnect);
 
     scope = new RequestScope();
     scope.setClusters(clusters);
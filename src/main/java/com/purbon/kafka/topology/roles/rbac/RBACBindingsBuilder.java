@@ -426,7 +426,7 @@ public class RBACBindingsBuilder implements BindingsBuilderProvider {
           .forAKafkaConnector(connectorName, acl.getPatternType())
           .apply(acl.getResourceType(), connectorName, acl.getPatternType());
     } else if (resourceType.equalsIgnoreCase("KsqlCluster")) {
-      var clusterIds = apiClient.withClusterIDs().forKsql().asMap();
+      var clusterIds = apiClient.clusterScopes().forKsql();
       var clusterId = clusterIds.get("clusters").get(KSQL_CLUSTER_ID_LABEL);
       String resourceName = acl.getResourceName().replaceFirst("KsqlCluster:", "").trim();
       return apiClient
@@ -0,0 +1,41 @@
+package com.purbon.kafka.topology.schemas;
+
+import java.util.Optional;
+
+/** Schema file to register under a subject, with the compatibility mode to set afterwards. */
+public class SchemaRegistration {
+
+  private final String subjectName;
+  private final String schemaFile;
+  private final String format;
+  private final Optional<String> compatibility;
+
+  public SchemaRegistration(
+      String subjectName, String schemaFile, String format, Optional<String> compatibility) {
+    this.subjectName = subjectName;
+    this.schemaFile = schemaFile;
+    this.format = format;
+    this.compatibility = compatibility;
+  }
+
+  public String getSubjectName() {
+    return subjectName;
+  }
+
+  public String getSchemaFile() {
+    return schemaFile;
+  }
+
+  public String getFormat() {
+    return format;
+  }
+
+  public Optional<String> getCompatibility() {
+    return compatibility;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s from %s", subjectName, schemaFile);
+  }
+}
@@ -3,11 +3,21 @@ package com.purbon.kafka.topology.schemas;
 import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -57,6 +67,64 @@ public class SchemaRegistryManager {
     }
   }
 
+  /**
+   * Register a group of subjects, reading and parsing the schema files concurrently and then
+   * sending each registration, followed by its compatibility mode, as soon as its schema is parsed.
+   * At most the given number of files are parsed or requests sent at the same time. Every subject
+   * is attempted, the errors are returned by subject name.
+   */
+  public Map<String, Throwable> register(List<SchemaRegistration> registrations, int parallelism) {
+    Map<String, Throwable> errors = new LinkedHashMap<>();
+    if (registrations.isEmpty()) {
+      return errors;
+    }
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, registrations.size())));
+    try {
+      Map<String, CompletableFuture<Void>> results = new LinkedHashMap<>();
+      for (SchemaRegistration registration : registrations) {
+        CompletableFuture<Void> result =
+            CompletableFuture.supplyAsync(() -> parse(registration), executor)
+                .thenAcceptAsync(schema -> register(registration, schema), executor);
+        results.put(registration.getSubjectName(), result);
+      }
+      results.forEach(
+          (subjectName, result) -> {
+            try {
+              result.join();
+            } catch (CompletionException e) {
+              LOGGER.error(
+                  String.format("Failed to register the schema of subject %s", subjectName),
+                  e.getCause());
+              errors.put(subjectName, e.getCause());
+            }
+          });
+    } finally {
+      executor.shutdownNow();
+    }
+    return errors;
+  }
+
+  private ParsedSchema parse(SchemaRegistration registration) {
+    Path schemaFilePath = schemaFilePath(registration.getSchemaFile());
+    try {
+      String schema = Files.readString(schemaFilePath);
+      return parseSchema(registration.getSubjectName(), registration.getFormat(), schema);
+    } catch (IOException e) {
+      throw new SchemaRegistryManagerException(
+          "Failed to parse the schema file " + schemaFilePath, e);
+    }
+  }
+
+  private void register(SchemaRegistration registration, ParsedSchema schema) {
+    LOGGER.debug(String.format("Registering subject %s", registration));
+    register(registration.getSubjectName(), registration.getFormat(), schema);
+    registration
+        .getCompatibility()
+        .ifPresent(
+            compatibility -> setCompatibility(registration.getSubjectName(), compatibility));
+  }
+
   public String setCompatibility(String subject, String compatibility) {
     try {
       return schemaRegistryClient.updateCompatibility(subject, compatibility);
@@ -69,6 +137,36 @@ public class SchemaRegistryManager {
     }
   }
 
+  /**
+   * Compute a fingerprint of the parsed schema and of its compatibility mode, so a subject can be
+   * skipped when neither has changed since it was last registered. Nothing is returned when the
+   * schema can not be read or parsed, letting the registration report the error.
+   */
+  public Optional<String> fingerprint(
+      String subjectName, String schemaFile, String format, Optional<String> compatibility) {
+    try {
+      String schema = Files.readString(schemaFilePath(schemaFile));
+      Optional<ParsedSchema> parsedSchema =
+          schemaRegistryClient.parseSchema(format, schema, Collections.emptyList());
+      if (parsedSchema.isEmpty()) {
+        return Optional.empty();
+      }
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update((subjectName + ":" + format + ":").getBytes(StandardCharsets.UTF_8));
+      digest.update((compatibility.orElse("") + ":").getBytes(StandardCharsets.UTF_8));
+      byte[] hash =
+          digest.digest(parsedSchema.get().canonicalString().getBytes(StandardCharsets.UTF_8));
+      StringBuilder sb = new StringBuilder();
+      for (byte b : hash) {
+        sb.append(String.format("%02x", b));
+      }
+      return Optional.of(sb.toString());
+    } catch (Exception e) {
+      LOGGER.debug(String.format("Failed to fingerprint the schema of subject %s", subjectName), e);
+      return Optional.empty();
+    }
+  }
+
   private Path schemaFilePath(String schemaFile) {
     Path mayBeAbsolutePath = Paths.get(schemaFile);
     Path path =
@@ -78,19 +176,24 @@ public class SchemaRegistryManager {
   }
 
   protected int save(String subjectName, String schemaType, String schemaString) {
+    return register(subjectName, schemaType, parseSchema(subjectName, schemaType, schemaString));
+  }
+
+  private ParsedSchema parseSchema(String subjectName, String schemaType, String schemaString) {
     final Optional<ParsedSchema> maybeSchema =
         schemaRegistryClient.parseSchema(schemaType, schemaString, Collections.emptyList());
 
-    final ParsedSchema parsedSchema =
-        maybeSchema.orElseThrow(
-            () -> {
-              final String msg =
-                  String.format(
-                      "Failed to parse the schema for subject '%s' of type '%s'",
-                      subjectName, schemaType);
-              return new SchemaRegistryManagerException(msg);
-            });
+    return maybeSchema.orElseThrow(
+        () -> {
+          final String msg =
+              String.format(
+                  "Failed to parse the schema for subject '%s' of type '%s'",
+                  subjectName, schemaType);
+          return new SchemaRegistryManagerException(msg);
+        });
+  }
 
+  private int register(String subjectName, String schemaType, ParsedSchema parsedSchema) {
     try {
       return schemaRegistryClient.register(subjectName, parsedSchema);
     } catch (Exception e) {
@@ -5,6 +5,7 @@ import static com.purbon.kafka.topology.serdes.JsonSerdesUtils.validateRequiresK
 import static java.util.Collections.singletonList;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
@@ -64,6 +65,28 @@ public class TopicCustomDeserializer extends StdDeserializer<Topic> {
   @Override
   public Topic deserialize(JsonParser parser, DeserializationContext context) throws IOException {
     JsonNode rootNode = parser.getCodec().readTree(parser);
+    return buildTopic(parser, rootNode);
+  }
+
+  /**
+   * Build a topic out of a node of an already parsed document, instead of reading a copy of it back
+   * from the parser like {@link com.fasterxml.jackson.databind.ObjectMapper#treeToValue} does.
+   * Errors are reported the same way treeToValue reports them.
+   */
+  Topic fromTree(JsonParser parser, JsonNode rootNode) throws JsonProcessingException {
+    if (rootNode == null || rootNode.isNull()) {
+      return null;
+    }
+    try {
+      return buildTopic(parser, rootNode);
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
+  }
+
+  private Topic buildTopic(JsonParser parser, JsonNode rootNode) throws IOException {
     validateRequiresKeys(rootNode, "name");
 
     String name = rootNode.get("name").asText();
@@ -211,7 +234,7 @@ public class TopicCustomDeserializer extends StdDeserializer<Topic> {
 
   private <T extends User> List<T> getUsers(
       JsonParser parser, JsonNode rootNode, String fieldName, Class<T> tClass)
-      throws com.fasterxml.jackson.core.JsonProcessingException {
+      throws JsonProcessingException {
     JsonNode jsonNode = rootNode.get(fieldName);
     return jsonNode == null
         ? new ArrayList<>()
@@ -85,14 +85,17 @@ public class TopologyCustomDeserializer extends StdDeserializer<Topology> {
           RBAC_KEY);
 
   private final Configuration config;
+  private final TopicCustomDeserializer topicDeserializer;
 
-  TopologyCustomDeserializer(Configuration config) {
-    this(null, config);
+  TopologyCustomDeserializer(Configuration config, TopicCustomDeserializer topicDeserializer) {
+    this(null, config, topicDeserializer);
   }
 
-  private TopologyCustomDeserializer(Class<?> clazz, Configuration config) {
+  private TopologyCustomDeserializer(
+      Class<?> clazz, Configuration config, TopicCustomDeserializer topicDeserializer) {
     super(clazz);
     this.config = config;
+    this.topicDeserializer = topicDeserializer;
   }
 
   @Override
@@ -156,7 +159,7 @@ public class TopologyCustomDeserializer extends StdDeserializer<Topology> {
     if (specialTopicsNode != null && !specialTopicsNode.isEmpty()) {
       for (int i = 0; i < specialTopicsNode.size(); i++) {
         JsonNode node = specialTopicsNode.get(i);
-        var topic = parser.getCodec().treeToValue(node, Topic.class);
+        var topic = topicDeserializer.fromTree(parser, node);
         topology.addSpecialTopic(topic);
       }
     }
@@ -266,8 +269,7 @@ public class TopologyCustomDeserializer extends StdDeserializer<Topology> {
               .collect(Collectors.toList());
       var denyList =
           config.getDlqTopicsDenyList().stream().map(Pattern::compile).collect(Collectors.toList());
-      new JsonSerdesUtils<Topic>()
-          .parseApplicationUser(parser, topicsNode, Topic.class)
+      parseTopics(parser, topicsNode)
           .forEach(
               topic -> {
                 project.addTopic(topic); // add normal topic and evaluate
@@ -286,6 +288,15 @@ public class TopologyCustomDeserializer extends StdDeserializer<Topology> {
     return project;
   }
 
+  private List<Topic> parseTopics(JsonParser parser, JsonNode topicsNode)
+      throws JsonProcessingException {
+    List<Topic> topics = new ArrayList<>();
+    for (int i = 0; i < topicsNode.size(); i++) {
+      topics.add(topicDeserializer.fromTree(parser, topicsNode.get(i)));
+    }
+    return topics;
+  }
+
   private Function<String, Boolean> shouldGenerateDlqTopic(
       List<Pattern> allowList, List<Pattern> denyList) {
     return name -> {
@@ -66,8 +66,10 @@ public class TopologySerdes {
       }
 
       SimpleModule module = new SimpleModule();
-      module.addDeserializer(Topology.class, new TopologyCustomDeserializer(config));
-      module.addDeserializer(Topic.class, new TopicCustomDeserializer(config, plans));
+      TopicCustomDeserializer topicDeserializer = new TopicCustomDeserializer(config, plans);
+      module.addDeserializer(
+          Topology.class, new TopologyCustomDeserializer(config, topicDeserializer));
+      module.addDeserializer(Topic.class, topicDeserializer);
       mapper.registerModule(module);
       mapper.registerModule(new Jdk8Module());
       mapper.findAndRegisterModules();
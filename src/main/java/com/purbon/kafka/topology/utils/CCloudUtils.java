@@ -5,9 +5,12 @@ import com.purbon.kafka.topology.api.ccloud.CCloudApi;
 import com.purbon.kafka.topology.model.users.ConfluentCloudPrincipal;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,9 +20,13 @@ public class CCloudUtils {
   private static final long SERVICE_ACCOUNT_NOT_FOUND = -1L;
 
   private Configuration config;
+  private Map<String, Long> lookupTable;
+  private long lookupTableLoadedAtNanos;
 
   public CCloudUtils(Configuration config) {
     this.config = config;
+    this.lookupTable = null;
+    this.lookupTableLoadedAtNanos = 0;
   }
 
   public TopologyAclBinding translateIfNecessary(
@@ -65,6 +72,27 @@ public class CCloudUtils {
     return translatedBinding;
   }
 
+  /**
+   * Return the lookup table needed to translate the principals of the given bindings. The table is
+   * kept for the configured time to live, and loaded again before that only when one of the
+   * principals is missing from it, for example a service account created in this same run.
+   */
+  public synchronized Map<String, Long> lookupTable(
+      CCloudApi cli, Collection<TopologyAclBinding> bindings) throws IOException {
+    if (!config.isConfluentCloudServiceAccountTranslationEnabled()) {
+      return Collections.emptyMap();
+    }
+    long ttlNanos =
+        TimeUnit.MILLISECONDS.toNanos(config.getConfluentCloudServiceAccountLookupTtlMs());
+    if (lookupTable == null
+        || System.nanoTime() - lookupTableLoadedAtNanos >= ttlNanos
+        || !bindings.stream().allMatch(b -> lookupTable.containsKey(b.getPrincipal()))) {
+      lookupTableLoadedAtNanos = System.nanoTime();
+      lookupTable = initializeLookupTable(cli);
+    }
+    return lookupTable;
+  }
+
   public Map<String, Long> initializeLookupTable(CCloudApi cli) throws IOException {
     Map<String, Long> lookupServiceAccountTable = new HashMap<>();
 
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.utils;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
@@ -7,7 +8,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -61,6 +65,26 @@ public final class JSON {
     return mapper.readValue(jsonString, objectClazz);
   }
 
+  public static Object toObject(InputStream in, Class objectClazz) throws IOException {
+    return mapper.readValue(in, objectClazz);
+  }
+
+  public static Object toObject(JsonParser parser, Class objectClazz) throws IOException {
+    return mapper.readValue(parser, objectClazz);
+  }
+
+  /** Serialize the object into a buffer of JSON tokens, to be encoded in another format. */
+  public static TokenBuffer asTokens(Object object) throws IOException {
+    TokenBuffer buffer = newTokenBuffer();
+    mapper.writeValue(buffer, object);
+    return buffer;
+  }
+
+  /** Buffer of JSON tokens read from another format, see {@link TokenBuffer#asParser()}. */
+  public static TokenBuffer newTokenBuffer() {
+    return new TokenBuffer(mapper, false);
+  }
+
   public static JsonNode toNode(String jsonString) throws JsonProcessingException {
     return mapper.readTree(jsonString);
   }
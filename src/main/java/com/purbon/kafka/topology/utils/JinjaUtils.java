@@ -1,13 +1,71 @@
 package com.purbon.kafka.topology.utils;
 
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 public final class JinjaUtils {
 
   private static Jinjava jinjava = new Jinjava();
 
+  // parsed templates, the same few formats are rendered over and over for every topology item
+  private static final Map<String, ParsedTemplate> templates = new ConcurrentHashMap<>();
+
+  private static class ParsedTemplate {
+    private final Node node;
+    private final List<TemplateError> fatalErrors;
+
+    private ParsedTemplate(Node node, List<TemplateError> fatalErrors) {
+      this.node = node;
+      this.fatalErrors = fatalErrors;
+    }
+  }
+
   public static String serialise(String format, Map<String, Object> context) {
-    return jinjava.render(format, context);
+    ParsedTemplate template = templates.computeIfAbsent(format, JinjaUtils::parse);
+    if (!template.fatalErrors.isEmpty()) {
+      // a template with syntax errors is kept too, it fails the same way on every render
+      throw new FatalTemplateErrorsException(format, template.fatalErrors);
+    }
+
+    JinjavaInterpreter interpreter =
+        new JinjavaInterpreter(
+            jinjava, new Context(jinjava.getGlobalContext(), context), jinjava.getGlobalConfig());
+    JinjavaInterpreter.pushCurrent(interpreter);
+    try {
+      String output = interpreter.render(template.node, true);
+      List<TemplateError> fatalErrors = fatalErrors(interpreter);
+      if (!fatalErrors.isEmpty()) {
+        throw new FatalTemplateErrorsException(format, fatalErrors);
+      }
+      return output;
+    } finally {
+      JinjavaInterpreter.popCurrent();
+    }
+  }
+
+  private static ParsedTemplate parse(String format) {
+    JinjavaInterpreter interpreter = jinjava.newInterpreter();
+    JinjavaInterpreter.pushCurrent(interpreter);
+    try {
+      Node node = interpreter.parse(format);
+      return new ParsedTemplate(node, fatalErrors(interpreter));
+    } finally {
+      JinjavaInterpreter.popCurrent();
+    }
+  }
+
+  private static List<TemplateError> fatalErrors(JinjavaInterpreter interpreter) {
+    return interpreter.getErrorsCopy().stream()
+        .filter(error -> error.getSeverity() == ErrorType.FATAL)
+        .collect(Collectors.toList());
   }
 }
@@ -0,0 +1,77 @@
+package com.purbon.kafka.topology.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Name format, like the topic and project prefix formats, compiled once. Formats made only of
+ * plain variables, for example {{context}}.{{project}}, are rendered by joining the values of the
+ * variables, anything using real template logic is rendered with Jinja.
+ */
+public final class NameTemplate {
+
+  private static final Pattern VARIABLE =
+      Pattern.compile("\\{\\{\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*}}");
+
+  private static final Map<String, NameTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+  private final String format;
+  private final List<String> literals;
+  private final List<String> variables;
+  private final boolean simple;
+
+  private NameTemplate(String format) {
+    this.format = format;
+    this.literals = new ArrayList<>();
+    this.variables = new ArrayList<>();
+
+    Matcher matcher = VARIABLE.matcher(format);
+    int position = 0;
+    while (matcher.find()) {
+      literals.add(format.substring(position, matcher.start()));
+      variables.add(matcher.group(1));
+      position = matcher.end();
+    }
+    literals.add(format.substring(position));
+
+    this.simple = literals.stream().noneMatch(NameTemplate::hasTemplateLogic);
+  }
+
+  private static boolean hasTemplateLogic(String literal) {
+    return literal.contains("{{")
+        || literal.contains("{%")
+        || literal.contains("{#")
+        || literal.contains("\n");
+  }
+
+  public static NameTemplate compile(String format) {
+    return TEMPLATES.computeIfAbsent(format, NameTemplate::new);
+  }
+
+  public boolean isSimple() {
+    return simple;
+  }
+
+  public String render(Map<String, Object> context) {
+    if (!simple) {
+      return JinjaUtils.serialise(format, context);
+    }
+    StringBuilder sb = new StringBuilder(literals.get(0));
+    for (int i = 0; i < variables.size(); i++) {
+      Object value = context.get(variables.get(i));
+      if (value != null && !(value instanceof String)) {
+        // let Jinja decide how anything else than a plain string is printed
+        return JinjaUtils.serialise(format, context);
+      }
+      if (value != null) {
+        sb.append(value);
+      }
+      sb.append(literals.get(i + 1));
+    }
+    return sb.toString();
+  }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -30,4 +31,23 @@ public final class Utils {
     LOGGER.debug(String.format("Artefact File %s loaded from %s", file, path));
     return path;
   }
+
+  public static <T> List<List<T>> chunks(Collection<T> items, int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size should be a positive number: " + chunkSize);
+    }
+    List<List<T>> chunks = new ArrayList<>();
+    List<T> current = new ArrayList<>(Math.min(chunkSize, items.size()));
+    for (T item : items) {
+      current.add(item);
+      if (current.size() == chunkSize) {
+        chunks.add(current);
+        current = new ArrayList<>(chunkSize);
+      }
+    }
+    if (!current.isEmpty()) {
+      chunks.add(current);
+    }
+    return chunks;
+  }
 }
@@ -1,12 +1,16 @@
 package com.purbon.kafka.topology;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
 
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.utils.TestUtils;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.*;
 import org.junit.Rule;
@@ -59,6 +63,8 @@ public class ArtefactManagerTest {
 
   @Mock public ArtefactClient mockClient2;
 
+  @Mock public ArtefactClient mockClient3;
+
   @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
 
   @Test
@@ -84,4 +90,34 @@ public class ArtefactManagerTest {
     ArtefactClient selectedClientBar = artefactManager.selectClient(serverBarArtefact);
     assertThat(selectedClientBar).isNull();
   }
+
+  @Test
+  public void shouldReportTheErrorsOfEveryCluster() throws IOException {
+    Map<String, ArtefactClient> clients = new LinkedHashMap<>();
+    clients.put("server0", mockClient1);
+    clients.put("server1", mockClient2);
+    clients.put("server2", mockClient3);
+
+    Artefact artefact = new KafkaConnectArtefact("/path", "server2", "foo", null);
+    when(mockClient1.getServer()).thenReturn("http://connect0:8083");
+    when(mockClient1.getClusterState()).thenThrow(new IOException("connect0 is down"));
+    when(mockClient2.getServer()).thenReturn("http://connect1:8083");
+    when(mockClient2.getClusterState()).thenThrow(new IOException("connect1 is down"));
+    doReturn(Collections.singletonList(artefact)).when(mockClient3).getClusterState();
+
+    String file = TestUtils.getResourceFilename("/descriptor.yaml");
+    MyArtefactManager artefactManager = new MyArtefactManager(clients, new Configuration(), file);
+
+    assertThatThrownBy(artefactManager::fetchClustersState)
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("Failed to fetch the state of 2 cluster(s)")
+        .hasMessageContaining("server0 (http://connect0:8083)")
+        .hasMessageContaining("server1 (http://connect1:8083)")
+        .hasMessageNotContaining("server2");
+
+    clients.remove("server0");
+    clients.remove("server1");
+    artefactManager = new MyArtefactManager(clients, new Configuration(), file);
+    assertThat(artefactManager.fetchClustersState()).containsOnlyKeys("server2");
+  }
 }
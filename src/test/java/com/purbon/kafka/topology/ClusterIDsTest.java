@@ -2,8 +2,12 @@ package com.purbon.kafka.topology;
 
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
 import static com.purbon.kafka.topology.Constants.MDS_VALID_CLUSTER_IDS_CONFIG;
+import static com.purbon.kafka.topology.api.mds.ClusterIDs.CONNECT_CLUSTER_ID_LABEL;
+import static com.purbon.kafka.topology.api.mds.ClusterIDs.KAFKA_CLUSTER_ID_LABEL;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.purbon.kafka.topology.api.mds.ClusterIDs;
+import com.purbon.kafka.topology.api.mds.ClusterScopes;
 import com.purbon.kafka.topology.exceptions.ValidationException;
 import java.util.HashMap;
 import java.util.Map;
@@ -55,4 +59,26 @@ public class ClusterIDsTest {
     ids.setKafkaClusterId("kafka-cluster       ");
     ids.setKafkaClusterId("");
   }
+
+  @Test
+  public void shouldPrecomputeTheScopesUntilAnIdChanges() {
+    ClusterIDs ids = new ClusterIDs();
+    ids.setKafkaClusterId("kafka");
+    ids.setConnectClusterID("connect");
+
+    ClusterScopes scopes = ids.scopes();
+    assertThat(scopes.forKafka().get("clusters")).containsOnlyKeys(KAFKA_CLUSTER_ID_LABEL);
+    assertThat(scopes.forKafkaConnect().get("clusters"))
+        .containsEntry(KAFKA_CLUSTER_ID_LABEL, "kafka")
+        .containsEntry(CONNECT_CLUSTER_ID_LABEL, "connect");
+    assertThat(scopes.forKafkaConnect("other").get("clusters"))
+        .containsEntry(CONNECT_CLUSTER_ID_LABEL, "other");
+
+    ids.setConnectClusterID("connect");
+    assertThat(ids.scopes()).isSameAs(scopes);
+
+    ids.setConnectClusterID("connect2");
+    assertThat(ids.scopes().forKafkaConnect().get("clusters"))
+        .containsEntry(CONNECT_CLUSTER_ID_LABEL, "connect2");
+  }
 }
@@ -47,7 +47,7 @@ public class ClusterLevelRoleBuilderTest {
 
   @Test
   public void testWithAllClientIdsForConnect() {
-    when(apiClient.withClusterIDs()).thenReturn(allClusterIDs);
+    when(apiClient.clusterScopes()).thenReturn(allClusterIDs.scopes());
 
     ClusterLevelRoleBuilder runner = new ClusterLevelRoleBuilder("foo", SECURITY_ADMIN, apiClient);
     runner.forKafkaConnect(connector);
@@ -61,7 +61,7 @@ public class ClusterLevelRoleBuilderTest {
 
   @Test
   public void testWithAllClientIdsForSchemaRegistry() {
-    when(apiClient.withClusterIDs()).thenReturn(allClusterIDs);
+    when(apiClient.clusterScopes()).thenReturn(allClusterIDs.scopes());
 
     ClusterLevelRoleBuilder runner = new ClusterLevelRoleBuilder("foo", SECURITY_ADMIN, apiClient);
     runner.forSchemaRegistry();
@@ -73,7 +73,7 @@ public class ClusterLevelRoleBuilderTest {
 
   @Test
   public void testKafkaRun() {
-    when(apiClient.withClusterIDs()).thenReturn(allClusterIDs);
+    when(apiClient.clusterScopes()).thenReturn(allClusterIDs.scopes());
 
     ClusterLevelRoleBuilder runner = new ClusterLevelRoleBuilder("foo", SECURITY_ADMIN, apiClient);
     runner.forKafka();
@@ -85,7 +85,7 @@ public class ClusterLevelRoleBuilderTest {
 
   @Test
   public void testControlCenterRun() {
-    when(apiClient.withClusterIDs()).thenReturn(allClusterIDs);
+    when(apiClient.clusterScopes()).thenReturn(allClusterIDs.scopes());
 
     ClusterLevelRoleBuilder runner = new ClusterLevelRoleBuilder("foo", SECURITY_ADMIN, apiClient);
     runner.forControlCenter();
@@ -97,7 +97,7 @@ public class ClusterLevelRoleBuilderTest {
 
   @Test
   public void testKafkaConnectRun() {
-    when(apiClient.withClusterIDs()).thenReturn(allClusterIDs);
+    when(apiClient.clusterScopes()).thenReturn(allClusterIDs.scopes());
 
     ClusterLevelRoleBuilder runner = new ClusterLevelRoleBuilder("foo", SECURITY_ADMIN, apiClient);
     runner.forKafkaConnect();
@@ -109,7 +109,7 @@ public class ClusterLevelRoleBuilderTest {
 
   @Test
   public void testSchemaRegistryRun() {
-    when(apiClient.withClusterIDs()).thenReturn(allClusterIDs);
+    when(apiClient.clusterScopes()).thenReturn(allClusterIDs.scopes());
 
     ClusterLevelRoleBuilder runner = new ClusterLevelRoleBuilder("foo", SECURITY_ADMIN, apiClient);
     runner.forSchemaSubject("foo");
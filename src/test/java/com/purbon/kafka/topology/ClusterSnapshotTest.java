@@ -0,0 +1,47 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ClusterSnapshotTest {
+
+  @Test
+  public void shouldFetchEachStateOnlyOnce() throws IOException {
+    ClusterSnapshot snapshot = new ClusterSnapshot();
+    AtomicInteger calls = new AtomicInteger();
+    ClusterSnapshot.Fetcher<Set<String>> fetcher =
+        () -> {
+          calls.incrementAndGet();
+          return Collections.singleton("foo");
+        };
+
+    snapshot.prefetch(ClusterSnapshot.TOPICS, fetcher);
+    Set<String> topics = snapshot.get(ClusterSnapshot.TOPICS, fetcher);
+    Set<String> topicsAgain = snapshot.get(ClusterSnapshot.TOPICS, fetcher);
+
+    assertThat(topics).containsExactly("foo");
+    assertThat(topicsAgain).isSameAs(topics);
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReportTheErrorOfAPrefetchedState() {
+    ClusterSnapshot snapshot = new ClusterSnapshot();
+    ClusterSnapshot.Fetcher<Set<String>> fetcher =
+        () -> {
+          throw new IOException("unreachable cluster");
+        };
+
+    snapshot.prefetch(ClusterSnapshot.ACLS, fetcher);
+
+    assertThatThrownBy(() -> snapshot.get(ClusterSnapshot.ACLS, fetcher))
+        .isInstanceOf(IOException.class)
+        .hasMessage("unreachable cluster");
+  }
+}
@@ -165,6 +165,32 @@ public class ExecutionPlanTest {
     assertEquals(1, backendController.size());
   }
 
+  @Test
+  public void addTopicsAndBindingsInParallelTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    Topic topicBar = topology.getProjects().get(0).getTopics().get(1);
+
+    TopologyAclBinding binding1 =
+        new TopologyAclBinding(
+            ResourceType.ANY.name(), "topicA", "*", "ALL", "User:foo", "LITERAL");
+    TopologyAclBinding binding2 =
+        new TopologyAclBinding(
+            ResourceType.ANY.name(), "topicB", "*", "ALL", "User:foo", "LITERAL");
+    Set<TopologyAclBinding> bindings = new HashSet<>(Arrays.asList(binding1, binding2));
+
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+    plan.add(new CreateBindings(aclsProvider, bindings));
+
+    plan.run(false, 4);
+
+    verify(adminClient, times(1)).createTopic(topicFoo, topicFoo.toString());
+    verify(adminClient, times(1)).createTopic(topicBar, topicBar.toString());
+    verify(aclsProvider, times(1)).createBindings(bindings);
+    assertEquals(4, backendController.size());
+  }
+
   private Topology buildTopologyForTest() {
     Topology topology = new TopologyImpl();
     topology.setContext("context");
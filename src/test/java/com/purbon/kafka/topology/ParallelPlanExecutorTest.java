@@ -0,0 +1,90 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.access.CreateBindings;
+import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.actions.topics.SchemaRegistrationBatch;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Topic;
+import com.purbon.kafka.topology.roles.SimpleAclsProvider;
+import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ParallelPlanExecutorTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock TopologyBuilderAdminClient adminClient;
+  @Mock SchemaRegistryManager schemaRegistryManager;
+  @Mock SimpleAclsProvider aclsProvider;
+
+  @Test
+  public void shouldChainTheActionsOfTheSameTopicAndWaitForThePreviousStage() {
+    Topic foo = new Topic("foo");
+    Topic bar = new Topic("bar");
+    Action createFoo = new CreateTopicAction(adminClient, foo, "foo");
+    Action createBar = new CreateTopicAction(adminClient, bar, "bar");
+    Action schemasFoo = new RegisterSchemaAction(schemaRegistryManager, foo, "foo");
+    Action bindings = new CreateBindings(aclsProvider, Collections.emptySet());
+
+    List<Map<Object, List<Action>>> stages =
+        ParallelPlanExecutor.stages(Arrays.asList(createFoo, createBar, schemasFoo, bindings));
+
+    assertThat(stages).hasSize(2);
+    assertThat(stages.get(0)).containsOnlyKeys("foo", "bar");
+    assertThat(stages.get(0).get("foo")).containsExactly(createFoo, schemasFoo);
+    assertThat(stages.get(1).values()).containsExactly(Collections.singletonList(bindings));
+  }
+
+  @Test
+  public void shouldRegisterABatchOfSchemasOnceAllTheTopicsAreCreated() {
+    Topic foo = new Topic("foo");
+    Topic bar = new Topic("bar");
+    Action createFoo = new CreateTopicAction(adminClient, foo, "foo");
+    Action createBar = new CreateTopicAction(adminClient, bar, "bar");
+    SchemaRegistrationBatch batch = new SchemaRegistrationBatch(schemaRegistryManager, 2);
+    Action schemasFoo = batch.add(foo, "foo", null);
+    Action schemasBar = batch.add(bar, "bar", null);
+
+    List<Map<Object, List<Action>>> stages =
+        ParallelPlanExecutor.stages(Arrays.asList(createFoo, createBar, schemasFoo, schemasBar));
+
+    assertThat(stages).hasSize(2);
+    assertThat(stages.get(0)).containsOnlyKeys("foo", "bar");
+    assertThat(stages.get(1).values()).containsExactly(Arrays.asList(schemasFoo, schemasBar));
+  }
+
+  @Test
+  public void shouldNotRunTheNextStageWhenAnActionFails() throws IOException {
+    Topic foo = new Topic("foo");
+    Topic bar = new Topic("bar");
+    Action createFoo = new CreateTopicAction(adminClient, foo, "foo");
+    Action createBar = new CreateTopicAction(adminClient, bar, "bar");
+    Action bindings = new CreateBindings(aclsProvider, Collections.emptySet());
+    doThrow(new IOException("foo")).when(adminClient).createTopic(foo, "foo");
+
+    ParallelPlanExecutor executor = new ParallelPlanExecutor(2);
+
+    assertThatThrownBy(
+            () -> executor.execute(Arrays.asList(createFoo, createBar, bindings), Action::run))
+        .isInstanceOf(IOException.class)
+        .hasMessage("foo");
+    verify(aclsProvider, never()).createBindings(Collections.emptySet());
+  }
+}
@@ -1,14 +1,18 @@
 package com.purbon.kafka.topology;
 
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+import static com.purbon.kafka.topology.Constants.JULIE_RBAC_LOOKUP_PARALLELISM;
 import static com.purbon.kafka.topology.Constants.OPTIMIZED_ACLS_CONFIG;
+import static com.purbon.kafka.topology.Constants.SERVICE_ACCOUNT_MANAGED_PREFIXES;
 import static com.purbon.kafka.topology.roles.rbac.RBACBindingsBuilder.LITERAL;
 import static com.purbon.kafka.topology.roles.rbac.RBACBindingsBuilder.PREFIX;
 import static com.purbon.kafka.topology.roles.rbac.RBACPredefinedRoles.DEVELOPER_READ;
 import static com.purbon.kafka.topology.roles.rbac.RBACPredefinedRoles.DEVELOPER_WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.purbon.kafka.topology.api.mds.MDSApiClient;
+import com.purbon.kafka.topology.api.mds.RbacResourceType;
 import com.purbon.kafka.topology.api.mds.RequestScope;
 import com.purbon.kafka.topology.model.*;
 import com.purbon.kafka.topology.model.Impl.ProjectImpl;
@@ -289,4 +293,38 @@ public class RbacProviderTest {
     verify(apiClient, times(6))
         .bind(anyString(), anyString(), anyString(), anyString(), anyString());
   }
+
+  @Test
+  public void listAclsOnlyLooksUpTheManagedPrincipals() {
+    HashMap<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Properties props = new Properties();
+    props.put(SERVICE_ACCOUNT_MANAGED_PREFIXES + ".0", "User:app");
+    props.put(JULIE_RBAC_LOOKUP_PARALLELISM, 4);
+
+    Configuration config = new Configuration(cliOps, props);
+    aclsProvider = new RBACProvider(apiClient, config);
+
+    doReturn(Arrays.asList(DEVELOPER_READ, DEVELOPER_WRITE)).when(apiClient).getRoleNames();
+    doReturn(Arrays.asList("User:app1", "User:other"))
+        .when(apiClient)
+        .lookupKafkaPrincipalsByRoleForKafka(DEVELOPER_READ);
+    doReturn(Collections.singletonList("User:app2"))
+        .when(apiClient)
+        .lookupKafkaPrincipalsByRoleForKafka(DEVELOPER_WRITE);
+    doReturn(Collections.singletonList(new RbacResourceType("Topic", "topicA", LITERAL)))
+        .when(apiClient)
+        .lookupResourcesForKafka("User:app1", DEVELOPER_READ);
+    doReturn(Collections.singletonList(new RbacResourceType("Topic", "topicA", LITERAL)))
+        .when(apiClient)
+        .lookupResourcesForKafka("User:app2", DEVELOPER_WRITE);
+
+    Map<String, List<TopologyAclBinding>> acls = aclsProvider.listAcls();
+
+    assertThat(acls).containsOnlyKeys("topicA");
+    assertThat(acls.get("topicA"))
+        .extracting(TopologyAclBinding::getPrincipal)
+        .containsExactly("User:app1", "User:app2");
+    verify(apiClient, never()).lookupResourcesForKafka(eq("User:other"), anyString());
+  }
 }
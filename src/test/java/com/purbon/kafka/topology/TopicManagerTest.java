@@ -3,15 +3,18 @@ package com.purbon.kafka.topology;
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
 import static com.purbon.kafka.topology.Constants.*;
 import static com.purbon.kafka.topology.TopicManager.NUM_PARTITIONS;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.*;
 
 import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.api.adminclient.TopicsSnapshot;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Impl.ProjectImpl;
 import com.purbon.kafka.topology.model.Impl.TopologyImpl;
 import com.purbon.kafka.topology.model.Project;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.model.schema.TopicSchemas;
 import com.purbon.kafka.topology.model.users.Consumer;
 import com.purbon.kafka.topology.model.users.Producer;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
@@ -26,6 +29,7 @@ import org.apache.kafka.clients.admin.Config;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -80,8 +84,8 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(1)).createTopic(topicB, topicB.toString());
+    verifyCreateTopic(1, topicA, topicA.toString());
+    verifyCreateTopic(1, topicB, topicB.toString());
   }
 
   @Test
@@ -99,8 +103,8 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(1)).createTopic(topicB, topicB.toString());
+    verifyCreateTopic(1, topicA, topicA.toString());
+    verifyCreateTopic(1, topicB, topicB.toString());
     verify(adminClient, times(0)).updatePartitionCount(topicB, topicB.toString());
 
     ExecutionPlan plan = ExecutionPlan.init(backendController, System.out);
@@ -117,14 +121,22 @@ public class TopicManagerTest {
     topicB = new Topic("topicB", Collections.singletonMap(NUM_PARTITIONS, "12"));
     project.addTopic(topicB);
 
-    doReturn(new Config(Collections.emptyList())).when(adminClient).getActualTopicConfig(any());
+    var emptyConfig = new Config(Collections.emptyList());
+    var snapshot =
+        new TopicsSnapshot(
+            Map.of(topicA.toString(), emptyConfig, topicB.toString(), emptyConfig),
+            Map.of(topicA.toString(), 3, topicB.toString(), 3));
+    doReturn(snapshot).when(adminClient).describeTopics(anyCollection(), anyInt());
     var listOfTopics = new HashSet<>(Arrays.asList(topicA.toString(), topicB.toString()));
     doReturn(listOfTopics).when(adminClient).listApplicationTopics();
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(0)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(0)).createTopic(topicB, topicB.toString());
+    verify(adminClient, times(1)).describeTopics(anyCollection(), anyInt());
+    verify(adminClient, times(0)).getActualTopicConfig(any());
+
+    verifyCreateTopic(0, topicA, topicA.toString());
+    verifyCreateTopic(0, topicB, topicB.toString());
     verify(adminClient, times(0)).updatePartitionCount(topicA, topicB.toString());
     verify(adminClient, times(1)).updatePartitionCount(topicB, topicB.toString());
   }
@@ -171,8 +183,8 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(1)).createTopic(topicB, topicB.toString());
+    verifyCreateTopic(1, topicA, topicA.toString());
+    verifyCreateTopic(1, topicB, topicB.toString());
     verify(adminClient, times(1)).deleteTopics(Collections.singletonList(topicCFullName));
   }
 
@@ -210,8 +222,8 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(1)).createTopic(topicB, topicB.toString());
+    verifyCreateTopic(1, topicA, topicA.toString());
+    verifyCreateTopic(1, topicB, topicB.toString());
     verify(adminClient, times(1)).deleteTopics(Collections.singletonList(topicC));
   }
 
@@ -361,8 +373,8 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(0)).createTopic(topicB, topicB.toString());
+    verifyCreateTopic(1, topicA, topicA.toString());
+    verifyCreateTopic(0, topicB, topicB.toString());
   }
 
   @Test
@@ -379,6 +391,125 @@ public class TopicManagerTest {
     topicManager.updatePlan(builder.buildTopology(), plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, "TopicA");
+    verifyCreateTopic(1, topicA, "TopicA");
+  }
+
+  @Test
+  public void shouldCreateNewTopicsInBatches() throws IOException {
+    props.put(JULIE_TOPICS_CREATE_BATCH_SIZE, "2");
+    Configuration config = new Configuration(cliOps, props);
+    TopicManager topicManager = new TopicManager(adminClient, schemaRegistryManager, config);
+
+    Project project = new ProjectImpl("project");
+    List<Topic> topics = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Topic topic = new Topic("topic" + i);
+      project.addTopic(topic);
+      topics.add(topic);
+    }
+    Topology topology = new TopologyImpl();
+    topology.addProject(project);
+
+    topicManager.updatePlan(topology, plan);
+    plan.run();
+
+    verify(adminClient, times(3)).createTopics(anyMap());
+    verify(adminClient, times(0)).createTopic(any(Topic.class), anyString());
+    for (Topic topic : topics) {
+      verifyCreateTopic(1, topic, topic.toString());
+    }
+  }
+
+  @Test
+  public void shouldOnlyRegisterTheChangedSchemas() throws IOException {
+    props.put(JULIE_SCHEMAS_SKIP_UNCHANGED, "true");
+    config = new Configuration(cliOps, props);
+    topicManager = new TopicManager(adminClient, schemaRegistryManager, config);
+
+    Project project = new ProjectImpl("project");
+    Topic topic = new Topic("topicA");
+    topic.setSchemas(Collections.singletonList(new TopicSchemas("key.avsc", "value.avsc")));
+    project.addTopic(topic);
+    Topology topology = new TopologyImpl();
+    topology.addProject(project);
+    String keySubject = topic + "-key";
+    String valueSubject = topic + "-value";
+
+    doReturn(Optional.of("key1"))
+        .when(schemaRegistryManager)
+        .fingerprint(eq(keySubject), anyString(), anyString(), any());
+    doReturn(Optional.of("value1"))
+        .when(schemaRegistryManager)
+        .fingerprint(eq(valueSubject), anyString(), anyString(), any());
+
+    topicManager.updatePlan(topology, plan);
+    plan.run();
+
+    verify(schemaRegistryManager, times(1)).register(keySubject, "key.avsc", "AVRO");
+    verify(schemaRegistryManager, times(1)).register(valueSubject, "value.avsc", "AVRO");
+
+    doReturn(Optional.of("value2"))
+        .when(schemaRegistryManager)
+        .fingerprint(eq(valueSubject), anyString(), anyString(), any());
+    var snapshot =
+        new TopicsSnapshot(
+            Map.of(topic.toString(), new Config(Collections.emptyList())),
+            Map.of(topic.toString(), topic.partitionsCount()));
+    doReturn(snapshot).when(adminClient).describeTopics(anyCollection(), anyInt());
+
+    plan = ExecutionPlan.init(backendController, System.out);
+    topicManager.updatePlan(topology, plan);
+    plan.run();
+
+    verify(schemaRegistryManager, times(1)).register(keySubject, "key.avsc", "AVRO");
+    verify(schemaRegistryManager, times(2)).register(valueSubject, "value.avsc", "AVRO");
+    assertEquals(Map.of(keySubject, "key1", valueSubject, "value2"), plan.getSchemas());
+  }
+
+  @Test
+  public void shouldForgetTheSchemasOfTheRemovedSubjects() throws IOException {
+    props.put(JULIE_SCHEMAS_SKIP_UNCHANGED, "true");
+    config = new Configuration(cliOps, props);
+    topicManager = new TopicManager(adminClient, schemaRegistryManager, config);
+
+    Project project = new ProjectImpl("project");
+    Topic topic = new Topic("topicA");
+    topic.setSchemas(Collections.singletonList(new TopicSchemas("key.avsc", "value.avsc")));
+    project.addTopic(topic);
+    Topology topology = new TopologyImpl();
+    topology.addProject(project);
+
+    doReturn(Optional.of("fingerprint"))
+        .when(schemaRegistryManager)
+        .fingerprint(anyString(), anyString(), anyString(), any());
+
+    topicManager.updatePlan(topology, plan);
+    plan.run();
+    assertEquals(
+        Map.of(topic + "-key", "fingerprint", topic + "-value", "fingerprint"),
+        backendController.getSchemas());
+
+    topic.setSchemas(Collections.emptyList());
+    var snapshot =
+        new TopicsSnapshot(
+            Map.of(topic.toString(), new Config(Collections.emptyList())),
+            Map.of(topic.toString(), topic.partitionsCount()));
+    doReturn(snapshot).when(adminClient).describeTopics(anyCollection(), anyInt());
+
+    plan = ExecutionPlan.init(backendController, System.out);
+    topicManager.updatePlan(topology, plan);
+    plan.run();
+
+    assertEquals(Collections.emptyMap(), plan.getSchemas());
+    assertEquals(Collections.emptyMap(), backendController.getSchemas());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void verifyCreateTopic(int times, Topic topic, String fullTopicName) {
+    ArgumentCaptor<Map<String, Topic>> captor = ArgumentCaptor.forClass(Map.class);
+    verify(adminClient, atLeast(0)).createTopics(captor.capture());
+    long count =
+        captor.getAllValues().stream().filter(batch -> batch.get(fullTopicName) == topic).count();
+    assertEquals(times, count);
   }
 }
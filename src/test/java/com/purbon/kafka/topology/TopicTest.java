@@ -119,4 +119,46 @@ public class TopicTest {
     String fullName = topic.toString();
     Assert.assertEquals("other.team.project.topic", fullName);
   }
+
+  @Test
+  public void buildTopicNameAfterThePrefixChanges() {
+    Topic topic = new Topic("topic", "type");
+    topic.setProjectPrefix("team.project.");
+    Assert.assertEquals("team.project.topic.type", topic.toString());
+
+    topic.setProjectPrefix("team.other.");
+    Assert.assertEquals("team.other.topic.type", topic.toString());
+  }
+
+  @Test
+  public void buildTopicNameWithCustomPatternAfterTheContextIsReplaced() {
+
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    cliOps.put(CLIENT_CONFIG_OPTION, "/fooBar");
+
+    Properties props = new Properties();
+    props.put(TOPIC_PREFIX_FORMAT_CONFIG, "{{context}}.{{project}}.{{topic}}");
+    Configuration config = new Configuration(cliOps, props);
+
+    Topology topology = new TopologyImpl();
+    topology.setContext("team");
+
+    Project project = new ProjectImpl("project", config);
+    topology.setProjects(Collections.singletonList(project));
+
+    Topic topic = new Topic("topic", config);
+    Topic otherTopic = new Topic("other", config);
+    project.addTopic(topic);
+    project.addTopic(otherTopic);
+
+    Assert.assertEquals("team.project.topic", topic.toString());
+    Assert.assertEquals("team.project.other", otherTopic.toString());
+
+    Map<String, Object> context = new HashMap<>(topic.getContext());
+    context.put("context", "anotherTeam");
+    topic.setContext(context);
+    Assert.assertEquals("anotherTeam.project.topic", topic.toString());
+    Assert.assertEquals("team.project.other", otherTopic.toString());
+  }
 }
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
@@ -15,13 +16,20 @@ import com.purbon.kafka.topology.model.users.platform.ControlCenterInstance;
 import com.purbon.kafka.topology.model.users.platform.SchemaRegistry;
 import com.purbon.kafka.topology.model.users.platform.SchemaRegistryInstance;
 import com.purbon.kafka.topology.roles.SimpleAclsProvider;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.roles.acls.AclsBindingsBuilder;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.errors.ClusterAuthorizationException;
+import org.apache.kafka.common.errors.SecurityDisabledException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -203,4 +211,77 @@ public class TopologyBuilderAdminClientTest {
 
     verify(kafkaAdminClient, times(1)).createAcls(anyCollection());
   }
+
+  @Test
+  public void shouldDeleteAclsInBatchesAndReportErrorsPerBinding() {
+    var foo = TopologyAclBinding.build("TOPIC", "foo", "*", "READ", "User:app1", "LITERAL");
+    var bar = TopologyAclBinding.build("TOPIC", "bar", "*", "READ", "User:app1", "LITERAL");
+    var zet = TopologyAclBinding.build("TOPIC", "zet", "*", "READ", "User:app1", "LITERAL");
+
+    doAnswer(
+            invocation -> {
+              Collection<AclBindingFilter> filters = invocation.getArgument(0);
+              Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values =
+                  new HashMap<>();
+              for (AclBindingFilter filter : filters) {
+                KafkaFutureImpl<DeleteAclsResult.FilterResults> future = new KafkaFutureImpl<>();
+                if (filter.patternFilter().name().equals("bar")) {
+                  future.completeExceptionally(new SecurityDisabledException("bar"));
+                } else {
+                  future.complete(filterResults(null));
+                }
+                values.put(filter, future);
+              }
+              DeleteAclsResult result = mock(DeleteAclsResult.class);
+              doReturn(values).when(result).values();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .deleteAcls(anyCollection());
+
+    var errors = adminClient.clearAcls(Arrays.asList(foo, bar, zet), 2);
+
+    verify(kafkaAdminClient, times(2)).deleteAcls(anyCollection());
+    assertThat(errors).containsOnlyKeys(bar);
+    assertThat(errors.get(bar)).isInstanceOf(SecurityDisabledException.class);
+  }
+
+  @Test
+  public void shouldReportTheBindingsAFilterFailedToDelete() {
+    var foo = TopologyAclBinding.build("TOPIC", "foo", "*", "READ", "User:app1", "LITERAL");
+    var bar = TopologyAclBinding.build("TOPIC", "bar", "*", "READ", "User:app1", "LITERAL");
+
+    doAnswer(
+            invocation -> {
+              Collection<AclBindingFilter> filters = invocation.getArgument(0);
+              Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values =
+                  new HashMap<>();
+              for (AclBindingFilter filter : filters) {
+                ApiException error =
+                    filter.patternFilter().name().equals("foo")
+                        ? new ClusterAuthorizationException("foo")
+                        : null;
+                values.put(filter, KafkaFuture.completedFuture(filterResults(error)));
+              }
+              DeleteAclsResult result = mock(DeleteAclsResult.class);
+              doReturn(values).when(result).values();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .deleteAcls(anyCollection());
+
+    var errors = adminClient.clearAcls(Arrays.asList(foo, bar), 10);
+
+    verify(kafkaAdminClient, times(1)).deleteAcls(anyCollection());
+    assertThat(errors).containsOnlyKeys(foo);
+    assertThat(errors.get(foo)).isInstanceOf(ClusterAuthorizationException.class);
+  }
+
+  private DeleteAclsResult.FilterResults filterResults(ApiException error) {
+    DeleteAclsResult.FilterResult result = mock(DeleteAclsResult.FilterResult.class);
+    doReturn(error).when(result).exception();
+    DeleteAclsResult.FilterResults results = mock(DeleteAclsResult.FilterResults.class);
+    doReturn(Collections.singletonList(result)).when(results).values();
+    return results;
+  }
 }
@@ -3,6 +3,7 @@ package com.purbon.kafka.topology;
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
 import static com.purbon.kafka.topology.CommandLineInterface.RECURSIVE_OPTION;
 import static com.purbon.kafka.topology.Constants.JULIE_ENABLE_MULTIPLE_CONTEXT_PER_DIR;
+import static com.purbon.kafka.topology.Constants.JULIE_TOPOLOGY_PARSE_PARALLELISM;
 import static com.purbon.kafka.topology.Constants.PLATFORM_SERVERS_CONNECT;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -72,6 +73,32 @@ public class TopologyObjectBuilderTest {
     }
   }
 
+  @Test
+  public void buildOutOfMultipleToposInParallelKeepsTheFileOrder() throws IOException {
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    var props = new Properties();
+    props.put(JULIE_ENABLE_MULTIPLE_CONTEXT_PER_DIR, "true");
+    Configuration config = new Configuration(cliOps, props);
+    props.put(JULIE_TOPOLOGY_PARSE_PARALLELISM, "4");
+    Configuration parallelConfig = new Configuration(cliOps, props);
+
+    String fileOrDirPath = TestUtils.getResourceFilename("/dir_with_multiple");
+    var map = TopologyObjectBuilder.build(fileOrDirPath, config);
+    var parallelMap = TopologyObjectBuilder.build(fileOrDirPath, parallelConfig);
+
+    assertThat(parallelMap.keySet()).isEqualTo(map.keySet());
+    for (var entry : map.entrySet()) {
+      var topology = parallelMap.get(entry.getKey());
+      assertThat(topology.getOrder()).isEqualTo(entry.getValue().getOrder());
+      assertThat(topology.getProjects().stream().map(Project::namePrefix))
+          .containsExactlyElementsOf(
+              entry.getValue().getProjects().stream()
+                  .map(Project::namePrefix)
+                  .collect(Collectors.toList()));
+    }
+  }
+
   @Test(expected = IOException.class)
   public void buildOutOfMultipleToposIfNotEnabled() throws IOException {
     String fileOrDirPath = TestUtils.getResourceFilename("/dir_with_multiple");
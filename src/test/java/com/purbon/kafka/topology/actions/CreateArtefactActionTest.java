@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.ArtefactIndex;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import java.util.ArrayList;
 import org.junit.Rule;
@@ -21,7 +22,7 @@ public class CreateArtefactActionTest {
   @Test
   public void shouldComposeDetailedViewOfProperties() {
 
-    var artefacts = new ArrayList<Artefact>();
+    var artefacts = new ArtefactIndex(new ArrayList<Artefact>());
     var artefact = new KafkaConnectArtefact("path", "label", "name", null);
 
     var action = new CreateArtefactAction(client, "/foo/bar", artefacts, artefact);
@@ -1,12 +1,23 @@
 package com.purbon.kafka.topology.actions.topics;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.purbon.kafka.topology.TestTopologyBuilder;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
+import java.io.IOException;
 import java.util.Collections;
+import java.util.Map;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -39,4 +50,21 @@ public class CreateTopicActionTest {
     assertThat(ref).contains("\"foo\" : \"bar\"");
     assertThat(ref).contains("\"topic\" : \"ctx.project.foo\",");
   }
+
+  @Test
+  public void shouldReportTheResultOfEachTopicInABatch() throws IOException {
+    Topic foo = new Topic("foo");
+    Topic bar = new Topic("bar");
+    var error = new InvalidReplicationFactorException("bar");
+    doReturn(Collections.singletonMap("bar", error)).when(adminClient).createTopics(anyMap());
+
+    var batch = new TopicCreationBatch(adminClient);
+    var createFoo = batch.add(foo, "foo");
+    var createBar = batch.add(bar, "bar");
+
+    createFoo.run();
+    assertThatThrownBy(createBar::run).isInstanceOf(IOException.class).hasCause(error);
+    verify(adminClient, times(1)).createTopics(Map.of("foo", foo, "bar", bar));
+    verify(adminClient, never()).createTopic(any(Topic.class), anyString());
+  }
 }
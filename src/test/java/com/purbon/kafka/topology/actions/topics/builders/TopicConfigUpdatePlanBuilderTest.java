@@ -2,9 +2,12 @@ package com.purbon.kafka.topology.actions.topics.builders;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.purbon.kafka.topology.TopicManager;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
+import com.purbon.kafka.topology.api.adminclient.TopicsSnapshot;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topic;
 import java.io.IOException;
@@ -103,6 +106,21 @@ public class TopicConfigUpdatePlanBuilderTest {
     assertNewUpdatedAndDeletedCounts(plan, 0, 0, 0);
   }
 
+  @Test
+  public void shouldUseSnapshotWhenTopicIsDescribed() throws IOException {
+    var snapshot =
+        new TopicsSnapshot(
+            Collections.singletonMap(TOPIC_NAME, createAlreadyOverriddenRetentionConfig()),
+            Collections.singletonMap(TOPIC_NAME, 3));
+    var topic = createTopic(TopicManager.NUM_PARTITIONS, "5");
+    var builder = new TopicConfigUpdatePlanBuilder(adminClient, snapshot);
+    var plan = builder.createTopicConfigUpdatePlan(topic, TOPIC_NAME);
+    assertNewUpdatedAndDeletedCounts(plan, 0, 0, 1);
+    assertTrue(plan.isUpdatePartitionCount());
+    verify(adminClient, never()).getActualTopicConfig(TOPIC_NAME);
+    verify(adminClient, never()).getPartitionCount(TOPIC_NAME);
+  }
+
   private TopicConfigUpdatePlan getTopicConfigUpdatePlan(Topic topic) {
     var builder = new TopicConfigUpdatePlanBuilder(adminClient);
     return builder.createTopicConfigUpdatePlan(topic, TOPIC_NAME);
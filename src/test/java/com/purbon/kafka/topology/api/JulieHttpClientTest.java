@@ -4,6 +4,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
 import static com.purbon.kafka.topology.Constants.JULIE_HTTP_BACKOFF_TIME_MS;
+import static com.purbon.kafka.topology.Constants.JULIE_HTTP_MAX_BACKOFF_TIME_MS;
 import static com.purbon.kafka.topology.Constants.JULIE_HTTP_RETRY_TIMES;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -15,6 +16,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -87,4 +89,64 @@ public class JulieHttpClientTest {
 
     assertThat(client.doGet("/some/thing").getStatus()).isEqualTo(200);
   }
+
+  @Test
+  public void shouldRetryAfterTheDelayRequestedByTheServer() throws Exception {
+    cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    props = new Properties();
+
+    props.put(JULIE_HTTP_BACKOFF_TIME_MS, 60000);
+    props.put(JULIE_HTTP_RETRY_TIMES, 5);
+    Configuration config = new Configuration(cliOps, props);
+
+    client = new PTHttpClient(wireMockRule.baseUrl(), Optional.of(config));
+
+    stubFor(
+        post(urlEqualTo("/some/thing"))
+            .inScenario("throttled")
+            .whenScenarioStateIs(STARTED)
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "0"))
+            .willSetStateTo("retry1"));
+
+    stubFor(
+        post(urlEqualTo("/some/thing"))
+            .inScenario("throttled")
+            .whenScenarioStateIs("retry1")
+            .willReturn(aResponse().withBody("done")));
+
+    // the configured backoff is one minute, the retry only happens in time with the Retry-After
+    String response = client.doPostAsync("/some/thing", "{}").get(10, TimeUnit.SECONDS);
+    assertThat(response).isEqualTo("done");
+  }
+
+  @Test
+  public void shouldCapTheDelayRequestedByTheServer() throws Exception {
+    cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    props = new Properties();
+
+    props.put(JULIE_HTTP_MAX_BACKOFF_TIME_MS, 0);
+    props.put(JULIE_HTTP_RETRY_TIMES, 5);
+    Configuration config = new Configuration(cliOps, props);
+
+    client = new PTHttpClient(wireMockRule.baseUrl(), Optional.of(config));
+
+    stubFor(
+        post(urlEqualTo("/some/thing"))
+            .inScenario("throttled for long")
+            .whenScenarioStateIs(STARTED)
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "3600"))
+            .willSetStateTo("retry1"));
+
+    stubFor(
+        post(urlEqualTo("/some/thing"))
+            .inScenario("throttled for long")
+            .whenScenarioStateIs("retry1")
+            .willReturn(aResponse().withBody("done")));
+
+    // the server asks for an hour, the retry only happens in time with the cap
+    String response = client.doPostAsync("/some/thing", "{}").get(10, TimeUnit.SECONDS);
+    assertThat(response).isEqualTo("done");
+  }
 }
@@ -0,0 +1,64 @@
+package com.purbon.kafka.topology.api.mds;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CredentialsManagerTest {
+
+  private long now;
+  private int calls;
+  private List<CompletableFuture<AuthenticationCredentials>> requests;
+  private CredentialsManager manager;
+
+  @Before
+  public void before() {
+    now = 0;
+    calls = 0;
+    requests = new ArrayList<>();
+    requests.add(
+        CompletableFuture.completedFuture(new AuthenticationCredentials("token1", "Bearer", 100)));
+    manager =
+        new CredentialsManager(
+            () -> {
+              if (calls++ == 0) {
+                return requests.get(0);
+              }
+              CompletableFuture<AuthenticationCredentials> request = new CompletableFuture<>();
+              requests.add(request);
+              return request;
+            },
+            () -> now);
+  }
+
+  @Test
+  public void shouldRefreshTheTokenInTheBackgroundBeforeItExpires() throws Exception {
+    assertThat(manager.authorization()).isEmpty();
+
+    manager.authenticate();
+    assertThat(manager.authorization()).contains("Bearer token1");
+
+    // close to expire, the current token is still used while a single new one is fetched
+    now = TimeUnit.SECONDS.toNanos(90);
+    assertThat(manager.authorization()).contains("Bearer token1");
+    assertThat(manager.authorization()).contains("Bearer token1");
+    assertThat(requests).hasSize(2);
+
+    requests.get(1).complete(new AuthenticationCredentials("token2", "Bearer", 100));
+    assertThat(manager.authorization()).contains("Bearer token2");
+    assertThat(requests).hasSize(2);
+  }
+
+  @Test
+  public void shouldNotUseAnExpiredToken() throws Exception {
+    manager.authenticate();
+
+    now = TimeUnit.SECONDS.toNanos(101);
+    assertThat(manager.authorization()).isEmpty();
+  }
+}
@@ -1,10 +1,13 @@
 package com.purbon.kafka.topology.api.mds;
 
 import static com.purbon.kafka.topology.roles.rbac.RBACPredefinedRoles.DEVELOPER_READ;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static com.purbon.kafka.topology.roles.rbac.RBACPredefinedRoles.DEVELOPER_WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -70,4 +73,34 @@ public class MDSApiClientTest {
         .isEqualTo(
             "{\"resourcePatterns\":[{\"name\":\"jdbc-sink\",\"patternType\":\"LITERAL\",\"resourceType\":\"Connector\"}],\"scope\":{\"clusters\":{\"kafka-cluster\":\"\",\"connect-cluster\":\"\"}}}");
   }
+
+  @Test
+  public void testBindingsAreGroupedByPrincipalRoleAndScope() {
+    List<TopologyAclBinding> bindings =
+        Arrays.asList(
+            apiClient.bind("User:foo", DEVELOPER_READ, "topicA", "LITERAL"),
+            apiClient.bind("User:foo", DEVELOPER_READ, "topicB", "LITERAL"),
+            apiClient.bind("User:foo", DEVELOPER_READ, "topicC", "LITERAL"),
+            apiClient.bind("User:foo", DEVELOPER_WRITE, "topicA", "LITERAL"),
+            apiClient
+                .bind("User:foo", DEVELOPER_READ)
+                .forSchemaSubject("topicA-value")
+                .apply("Subject", "topicA-value"));
+
+    List<MDSRequest> requests =
+        apiClient.buildRequests(bindings, TopologyAclBinding::getScope, 2);
+
+    assertThat(requests)
+        .extracting(MDSRequest::getUrl)
+        .containsExactly(
+            "User:foo/roles/DeveloperRead/bindings",
+            "User:foo/roles/DeveloperRead/bindings",
+            "User:foo/roles/DeveloperWrite/bindings",
+            "User:foo/roles/DeveloperRead/bindings");
+    assertThat(requests.get(0).getJsonEntity())
+        .isEqualTo(
+            "{\"resourcePatterns\":[{\"name\":\"topicA\",\"patternType\":\"LITERAL\",\"resourceType\":\"Topic\"},{\"name\":\"topicB\",\"patternType\":\"LITERAL\",\"resourceType\":\"Topic\"}],\"scope\":{\"clusters\":{}}}");
+    assertThat(requests.get(1).getJsonEntity()).contains("topicC").doesNotContain("topicB");
+    assertThat(requests.get(3).getJsonEntity()).contains("schema-registry-cluster");
+  }
 }
@@ -0,0 +1,100 @@
+package com.purbon.kafka.topology.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.api.mds.ClusterIDs;
+import com.purbon.kafka.topology.api.mds.RequestScope;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.TestUtils;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.Test;
+
+public class BackendStateCodecTest {
+
+  @Test
+  public void shouldRoundTripTheState() throws IOException {
+    BackendState state = buildBackendState(10);
+
+    byte[] content = BackendStateCodec.encode(state);
+    BackendState decoded = BackendStateCodec.decode(new ByteArrayInputStream(content));
+
+    assertThat(BackendStateCodec.isCompact(new ByteArrayInputStream(content))).isTrue();
+    assertThat(decoded.getBindings()).containsExactlyInAnyOrderElementsOf(state.getBindings());
+    assertThat(decoded.getAccounts()).containsExactlyInAnyOrderElementsOf(state.getAccounts());
+    assertThat(decoded.getTopics()).containsExactlyInAnyOrderElementsOf(state.getTopics());
+    assertThat(decoded.getSchemas()).isEqualTo(state.getSchemas());
+    TopologyAclBinding binding = decoded.getBindings().iterator().next();
+    assertThat(binding.getScope().clusterIDs()).hasSize(1);
+  }
+
+  @Test
+  public void shouldBeSmallerThanTheJsonState() throws IOException {
+    BackendState state = buildBackendState(500);
+
+    byte[] content = BackendStateCodec.encode(state);
+
+    assertThat(content.length).isLessThan(state.asJson().length() / 4);
+  }
+
+  @Test
+  public void shouldDecodeTheJsonState() throws IOException {
+    BackendState state = buildBackendState(1);
+    byte[] json = state.asPrettyJson().getBytes(StandardCharsets.UTF_8);
+
+    BackendState decoded = BackendStateCodec.decode(json);
+
+    assertThat(BackendStateCodec.isCompact(new ByteArrayInputStream(json))).isFalse();
+    assertThat(decoded.getBindings()).containsExactlyInAnyOrderElementsOf(state.getBindings());
+    assertThat(decoded.getTopics()).containsExactlyInAnyOrderElementsOf(state.getTopics());
+
+    File file = TestUtils.getResourceFile("/stateFile.json");
+    BackendState fromFile = BackendStateCodec.decode(Files.readAllBytes(file.toPath()));
+    assertThat(fromFile.getTopics()).hasSize(6);
+    assertThat(fromFile.getBindings()).hasSize(49);
+  }
+
+  private BackendState buildBackendState(int topics) {
+    RequestScope scope = new RequestScope();
+    ClusterIDs clusterIDs = new ClusterIDs();
+    clusterIDs.setKafkaClusterId("kafka");
+    scope.setClusters(clusterIDs.forKafka().asMap());
+
+    List<TopologyAclBinding> bindings = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < topics; i++) {
+      String topic = "context.project.topic-" + i;
+      names.add(topic);
+      for (AclOperation operation : List.of(AclOperation.READ, AclOperation.DESCRIBE)) {
+        TopologyAclBinding binding =
+            TopologyAclBinding.build(
+                ResourceType.TOPIC.name(),
+                topic,
+                "*",
+                operation.name(),
+                "User:app" + (i % 3),
+                PatternType.LITERAL.name());
+        binding.setScope(scope);
+        bindings.add(binding);
+      }
+    }
+
+    BackendState state = new BackendState();
+    state.addBindings(bindings);
+    state.addTopics(names);
+    state.addAccounts(
+        Collections.singleton(new ServiceAccount("sa-1", "app0", "an application", "User:1")));
+    state.addSchemas(Collections.singletonMap(names.get(0) + "-value", "fingerprint"));
+    return state;
+  }
+}
@@ -12,8 +12,11 @@ import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.utils.JSON;
 import com.purbon.kafka.topology.utils.TestUtils;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -102,6 +105,51 @@ public class FileBackendTest {
     assertThat(state.getAccounts()).hasSize(0);
   }
 
+  @Test
+  public void shouldMigrateTheJsonStateFileOnSave() throws IOException {
+    File file = TestUtils.getResourceFile("/stateFile.json");
+    Files.copy(file.toPath(), Paths.get(STATE_FILE_NAME));
+
+    backend.createOrOpen();
+    BackendState state = backend.load();
+
+    assertThat(state.getTopics()).hasSize(6);
+    assertThat(state.getBindings()).hasSize(49);
+    // loading alone, as in a dry run, leaves the file untouched
+    try (InputStream in = new BufferedInputStream(new FileInputStream(STATE_FILE_NAME))) {
+      assertThat(BackendStateCodec.isCompact(in)).isFalse();
+    }
+
+    backend.save(state);
+    backend.close();
+    try (InputStream in = new BufferedInputStream(new FileInputStream(STATE_FILE_NAME))) {
+      assertThat(BackendStateCodec.isCompact(in)).isTrue();
+    }
+    BackendState migrated = new FileBackend().load(Paths.get(STATE_FILE_NAME));
+    assertThat(migrated.getTopics()).containsExactlyInAnyOrderElementsOf(state.getTopics());
+    assertThat(migrated.getBindings()).containsExactlyInAnyOrderElementsOf(state.getBindings());
+  }
+
+  @Test
+  public void shouldReplaceTheStateFileOnSave() throws IOException {
+    BackendState state = new BackendState();
+    state.addTopics(Collections.singleton("foo"));
+    backend.createOrOpen(Mode.TRUNCATE);
+    backend.save(state);
+    backend.close();
+
+    backend = new FileBackend();
+    backend.createOrOpen(Mode.TRUNCATE);
+    // the previous state is kept until the new one is saved
+    assertThat(backend.load().getTopics()).containsExactly("foo");
+    state.addTopics(Collections.singleton("bar"));
+    backend.save(state);
+    backend.close();
+
+    assertThat(new FileBackend().load().getTopics()).containsExactlyInAnyOrder("foo", "bar");
+    assertThat(Files.exists(Paths.get(STATE_FILE_NAME + ".tmp"))).isFalse();
+  }
+
   private void verifyStoreAndLoadWithPrincipal(final String principal) throws IOException {
     TopologyAclBinding binding =
         TopologyAclBinding.build(
@@ -0,0 +1,91 @@
+package com.purbon.kafka.topology.backend;
+
+import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
+import static com.purbon.kafka.topology.backend.JournalFileBackend.JOURNAL_FILE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.BackendController;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JournalFileBackendTest {
+
+  @Before
+  public void before() throws IOException {
+    after();
+  }
+
+  @After
+  public void after() throws IOException {
+    Files.deleteIfExists(Paths.get(STATE_FILE_NAME));
+    Files.deleteIfExists(Paths.get(JOURNAL_FILE_NAME));
+  }
+
+  @Test
+  public void shouldReplayTheAppendedChangesOverTheSnapshot() throws IOException {
+    BackendController controller = new BackendController(new JournalFileBackend(10));
+    controller.load();
+    BackendStateDelta delta = new BackendStateDelta();
+    delta.addTopics(Arrays.asList("topicA", "topicB"));
+    controller.addTopics(Set.of("topicA", "topicB"));
+    controller.flushAndClose(delta);
+
+    controller = new BackendController(new JournalFileBackend(10));
+    controller.load();
+    assertThat(controller.getTopics()).containsExactlyInAnyOrder("topicA", "topicB");
+
+    delta = new BackendStateDelta();
+    delta.removeTopics(Arrays.asList("topicA", "topicB"));
+    delta.addTopics(Collections.singleton("topicB"));
+    delta.addSchemas(Collections.singletonMap("topicB-value", "fingerprint"));
+    controller.flushAndClose(delta);
+
+    controller = new BackendController(new JournalFileBackend(10));
+    controller.load();
+    assertThat(controller.getTopics()).containsExactly("topicB");
+    assertThat(controller.getSchemas()).containsEntry("topicB-value", "fingerprint");
+    assertThat(Files.size(Paths.get(STATE_FILE_NAME))).isZero();
+    assertThat(Files.readAllLines(Paths.get(JOURNAL_FILE_NAME))).hasSize(2);
+  }
+
+  @Test
+  public void shouldCompactTheJournalIntoASnapshot() throws IOException {
+    for (String topic : Arrays.asList("topicA", "topicB")) {
+      BackendController controller = new BackendController(new JournalFileBackend(2));
+      controller.load();
+      BackendStateDelta delta = new BackendStateDelta();
+      delta.addTopics(Collections.singleton(topic));
+      controller.addTopics(Collections.singleton(topic));
+      controller.flushAndClose(delta);
+    }
+
+    assertThat(Files.exists(Paths.get(JOURNAL_FILE_NAME))).isFalse();
+    BackendController controller = new BackendController(new JournalFileBackend(2));
+    controller.load();
+    assertThat(controller.getTopics()).containsExactlyInAnyOrder("topicA", "topicB");
+  }
+
+  @Test
+  public void shouldIgnoreAnIncompleteLastEntry() throws IOException {
+    BackendController controller = new BackendController(new JournalFileBackend(10));
+    controller.load();
+    BackendStateDelta delta = new BackendStateDelta();
+    delta.addTopics(Collections.singleton("topicA"));
+    controller.addTopics(Collections.singleton("topicA"));
+    controller.flushAndClose(delta);
+    Files.writeString(
+        Paths.get(JOURNAL_FILE_NAME), "{\"added\":{\"topics\":[", StandardOpenOption.APPEND);
+
+    controller = new BackendController(new JournalFileBackend(10));
+    controller.load();
+    assertThat(controller.getTopics()).containsExactly("topicA");
+  }
+}
@@ -0,0 +1,154 @@
+package com.purbon.kafka.topology.backend.kafka;
+
+import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+import static com.purbon.kafka.topology.Constants.JULIE_INSTANCE_ID;
+import static com.purbon.kafka.topology.Constants.JULIE_KAFKA_STATE_CONSUMER_TAIL_RECORDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.backend.KafkaBackend;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class KafkaBackendConsumerTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock KafkaBackend callback;
+
+  private Configuration config;
+  private TopicPartition partition;
+  private StateTopicConsumer mockConsumer;
+  private KafkaBackendConsumer consumer;
+
+  @Before
+  public void before() {
+    HashMap<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Properties props = new Properties();
+    props.put(JULIE_INSTANCE_ID, "julie");
+    props.put(JULIE_KAFKA_STATE_CONSUMER_TAIL_RECORDS, 2);
+    config = new Configuration(cliOps, props);
+
+    String topic = config.getKafkaBackendStateTopic();
+    partition = new TopicPartition(topic, 0);
+    mockConsumer = new StateTopicConsumer();
+    mockConsumer.updatePartitions(
+        topic, Collections.singletonList(new PartitionInfo(topic, 0, null, null, null)));
+    mockConsumer.updateBeginningOffsets(Collections.singletonMap(partition, 0L));
+    mockConsumer.updateEndOffsets(Collections.singletonMap(partition, 10L));
+
+    consumer = new KafkaBackendConsumer(config, mockConsumer);
+    // stop reading once the initial load is done, so retrieve returns
+    doAnswer(
+            invocation -> {
+              consumer.stop();
+              return null;
+            })
+        .when(callback)
+        .initialLoadFinish();
+  }
+
+  @Test(timeout = 10000)
+  public void shouldOnlyReadTheTailWhenItHoldsTheState() {
+    appendRecords(9);
+
+    consumer.start();
+    consumer.retrieve(callback);
+
+    verify(callback).initialLoadFinish();
+    assertThat(appliedOffsets()).containsExactly(8L, 9L);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldDoubleTheTailUntilItHoldsTheState() {
+    appendRecords(3);
+
+    consumer.start();
+    consumer.retrieve(callback);
+
+    verify(callback).initialLoadFinish();
+    // the tail grows from 2 to 4 and then 8 records, the first two records are never read
+    assertThat(appliedOffsets())
+        .containsExactly(8L, 9L, 6L, 7L, 8L, 9L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldReadTheWholeTopicWhenNoTailHoldsTheState() {
+    appendRecords(-1);
+
+    consumer.start();
+    consumer.retrieve(callback);
+
+    verify(callback).initialLoadFinish();
+    assertThat(appliedOffsets()).contains(0L, 1L);
+  }
+
+  // ten records of other instances, but for the one at the given offset
+  private void appendRecords(long stateOffset) {
+    for (long offset = 0; offset < 10; offset++) {
+      String key = offset == stateOffset ? "julie" : "other";
+      mockConsumer.append(
+          new ConsumerRecord<>(
+              partition.topic(), partition.partition(), offset, key, new BackendState()));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Long> appliedOffsets() {
+    ArgumentCaptor<ConsumerRecord<String, BackendState>> captor =
+        ArgumentCaptor.forClass(ConsumerRecord.class);
+    verify(callback, atLeastOnce()).apply(captor.capture());
+    return captor.getAllValues().stream().map(ConsumerRecord::offset).collect(Collectors.toList());
+  }
+
+  /**
+   * A MockConsumer forgets the records once they are polled, the state topic keeps them so the
+   * consumer can seek back and read them again.
+   */
+  private static class StateTopicConsumer extends MockConsumer<String, BackendState> {
+
+    private final List<ConsumerRecord<String, BackendState>> log = new ArrayList<>();
+
+    StateTopicConsumer() {
+      super(OffsetResetStrategy.EARLIEST);
+    }
+
+    void append(ConsumerRecord<String, BackendState> record) {
+      log.add(record);
+    }
+
+    @Override
+    public synchronized ConsumerRecords<String, BackendState> poll(Duration timeout) {
+      for (ConsumerRecord<String, BackendState> record : log) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        if (record.offset() >= position(partition)) {
+          addRecord(record);
+        }
+      }
+      return super.poll(timeout);
+    }
+  }
+}
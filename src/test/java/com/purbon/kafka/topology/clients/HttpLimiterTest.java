@@ -0,0 +1,93 @@
+package com.purbon.kafka.topology.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class HttpLimiterTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock HttpResponse<String> ok;
+  @Mock HttpResponse<String> throttled;
+
+  private List<CompletableFuture<HttpResponse<String>>> started;
+  private Supplier<CompletableFuture<HttpResponse<String>>> call;
+
+  @Before
+  public void before() {
+    when(ok.statusCode()).thenReturn(200);
+    when(throttled.statusCode()).thenReturn(429);
+    started = new ArrayList<>();
+    call =
+        () -> {
+          CompletableFuture<HttpResponse<String>> request = new CompletableFuture<>();
+          started.add(request);
+          return request;
+        };
+  }
+
+  @Test
+  public void shouldGrowTheWindowWithHealthyResponsesAndHalveItWhenThrottled() {
+    HttpLimiter limiter = new HttpLimiter(0, 4, Runnable::run);
+    List<CompletableFuture<HttpResponse<String>>> results = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      results.add(limiter.submit(call));
+    }
+    assertThat(started).hasSize(1);
+
+    started.get(0).complete(ok);
+    assertThat(limiter.getWindow()).isEqualTo(2);
+    assertThat(started).hasSize(3);
+
+    started.get(1).complete(ok);
+    started.get(2).complete(ok);
+    assertThat(limiter.getWindow()).isEqualTo(4);
+    assertThat(started).hasSize(6);
+
+    started.get(3).complete(throttled);
+    assertThat(limiter.getWindow()).isEqualTo(2);
+    assertThat(results.get(3)).isCompletedWithValue(throttled);
+  }
+
+  @Test
+  public void shouldSpreadTheRequestsOverTime() throws Exception {
+    HttpLimiter limiter = new HttpLimiter(10, 0);
+    long start = System.nanoTime();
+    List<CompletableFuture<HttpResponse<String>>> results = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      results.add(limiter.submit(() -> CompletableFuture.completedFuture(ok)));
+    }
+    CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+    // one token every 100 ms, the third request can not start before 200 ms
+    assertThat(System.nanoTime() - start).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(150));
+  }
+
+  @Test
+  public void shouldStartALongQueueOfRequestsWithoutNesting() throws Exception {
+    HttpLimiter limiter = new HttpLimiter(0, 1);
+    CompletableFuture<HttpResponse<String>> first = new CompletableFuture<>();
+    limiter.submit(() -> first);
+    List<CompletableFuture<HttpResponse<String>>> results = new ArrayList<>();
+    for (int i = 0; i < 100000; i++) {
+      results.add(limiter.submit(() -> CompletableFuture.completedFuture(ok)));
+    }
+
+    // each queued request completes straight away and releases its slot to the next one
+    first.complete(ok);
+    CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,34 @@
+package com.purbon.kafka.topology.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class ArtefactIndexTest {
+
+  @Test
+  public void shouldMatchLabelledArtefactsOnLabelAndName() {
+    var connector = new KafkaConnectArtefact("path", "connect1", "Source", "hash");
+    var index = new ArtefactIndex(Arrays.asList(connector));
+
+    assertThat(index.find(new KafkaConnectArtefact("other", "CONNECT1", "source", null)))
+        .containsSame(connector);
+    assertThat(index.contains(new KafkaConnectArtefact("path", "connect2", "source", null)))
+        .isFalse();
+    assertThat(index.contains(new KafkaConnectArtefact("path", null, "source", null))).isFalse();
+  }
+
+  @Test
+  public void shouldMatchArtefactsWithoutLabelOnNameAndKeepTheCollectionOrder() {
+    var unlabelled = new KafkaConnectArtefact("path", null, "sink", "hash1");
+    var labelled = new KafkaConnectArtefact("path", "connect1", "sink", "hash2");
+    var index = new ArtefactIndex(Arrays.asList(unlabelled, labelled));
+
+    assertThat(index.find(new KafkaConnectArtefact("path", "connect1", "sink", null)))
+        .containsSame(unlabelled);
+    assertThat(index.find(new KafkaConnectArtefact("path", null, "SINK", null)))
+        .containsSame(unlabelled);
+  }
+}
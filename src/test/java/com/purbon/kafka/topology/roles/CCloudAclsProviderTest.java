@@ -0,0 +1,152 @@
+package com.purbon.kafka.topology.roles;
+
+import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+import static com.purbon.kafka.topology.Constants.CCLOUD_ACLS_PARALLELISM;
+import static com.purbon.kafka.topology.Constants.CCLOUD_KAFKA_CLUSTER_ID_CONFIG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.api.ccloud.CCloudApi;
+import com.purbon.kafka.topology.utils.CCloudUtils;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class CCloudAclsProviderTest {
+
+  private static final String CLUSTER_ID = "lkc-1";
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock TopologyBuilderAdminClient adminClient;
+  @Mock CCloudApi cli;
+  @Mock CCloudUtils cCloudUtils;
+
+  private BlockingQueue<CompletableFuture<String>> requests;
+  private ExecutorService executor;
+  private Set<TopologyAclBinding> bindings;
+
+  @Before
+  public void before() throws IOException {
+    requests = new LinkedBlockingQueue<>();
+    executor = Executors.newSingleThreadExecutor();
+    bindings = new HashSet<>();
+    for (String topic : Arrays.asList("foo", "bar", "zet", "baz", "qux")) {
+      bindings.add(TopologyAclBinding.build("TOPIC", topic, "*", "READ", "User:app1", "LITERAL"));
+    }
+    doAnswer(invocation -> invocation.getArgument(0))
+        .when(cCloudUtils)
+        .translateIfNecessary(any(), any());
+  }
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test(timeout = 10000)
+  public void shouldKeepAtMostParallelismRequestsInFlight() throws Exception {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    doAnswer(
+            invocation -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              return pendingRequest();
+            })
+        .when(cli)
+        .createAclAsync(eq(CLUSTER_ID), any());
+
+    CCloudAclsProvider provider = provider(2);
+    Future<?> apply = executor.submit(() -> createBindings(provider));
+    for (int i = 0; i < bindings.size(); i++) {
+      CompletableFuture<String> request = requests.poll(5, TimeUnit.SECONDS);
+      assertThat(request).isNotNull();
+      // leave the window before the provider can send the next request
+      inFlight.decrementAndGet();
+      request.complete("{}");
+    }
+    apply.get();
+
+    verify(cli, times(bindings.size())).createAclAsync(eq(CLUSTER_ID), any());
+    assertThat(maxInFlight.get()).isBetween(1, 2);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldNotStartARequestAfterAFailure() {
+    doAnswer(invocation -> CompletableFuture.failedFuture(new IOException("foo")))
+        .when(cli)
+        .createAclAsync(eq(CLUSTER_ID), any());
+
+    Throwable error = catchThrowable(() -> provider(1).createBindings(bindings));
+
+    assertThat(error).isInstanceOf(IOException.class).hasMessage("foo");
+    verify(cli, times(1)).createAclAsync(eq(CLUSTER_ID), any());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldRaiseEveryErrorOfTheRequestsInFlight() throws Exception {
+    doAnswer(invocation -> pendingRequest()).when(cli).createAclAsync(eq(CLUSTER_ID), any());
+
+    CCloudAclsProvider provider = provider(3);
+    Future<?> apply = executor.submit(() -> createBindings(provider));
+    for (String message : Arrays.asList("foo", "bar", "zet")) {
+      CompletableFuture<String> request = requests.poll(5, TimeUnit.SECONDS);
+      assertThat(request).isNotNull();
+      request.completeExceptionally(new IOException(message));
+    }
+    Throwable error = catchThrowable(apply::get);
+
+    assertThat(error).isInstanceOf(ExecutionException.class);
+    assertThat(error.getCause()).isInstanceOf(IOException.class).hasMessage("foo");
+    assertThat(error.getCause().getSuppressed())
+        .extracting(Throwable::getMessage)
+        .containsExactly("bar", "zet");
+    verify(cli, times(3)).createAclAsync(eq(CLUSTER_ID), any());
+  }
+
+  private CCloudAclsProvider provider(int parallelism) {
+    HashMap<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Properties props = new Properties();
+    props.put(CCLOUD_KAFKA_CLUSTER_ID_CONFIG, CLUSTER_ID);
+    props.put(CCLOUD_ACLS_PARALLELISM, parallelism);
+    return new CCloudAclsProvider(adminClient, new Configuration(cliOps, props), cli, cCloudUtils);
+  }
+
+  private CompletableFuture<String> pendingRequest() {
+    CompletableFuture<String> request = new CompletableFuture<>();
+    requests.add(request);
+    return request;
+  }
+
+  private Void createBindings(CCloudAclsProvider provider) throws IOException {
+    provider.createBindings(bindings);
+    return null;
+  }
+}
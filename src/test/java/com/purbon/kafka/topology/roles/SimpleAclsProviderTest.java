@@ -0,0 +1,57 @@
+package com.purbon.kafka.topology.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import java.util.Arrays;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class SimpleAclsProviderTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock AdminClient kafkaAdminClient;
+
+  private SimpleAclsProvider provider;
+
+  @Before
+  public void before() {
+    provider = new SimpleAclsProvider(new TopologyBuilderAdminClient(kafkaAdminClient));
+  }
+
+  @Test
+  public void shouldListTheAclsByResourceName() {
+    var foo = TopologyAclBinding.build("TOPIC", "foo.topic", "*", "READ", "User:app1", "LITERAL");
+    var fooWrite =
+        TopologyAclBinding.build("TOPIC", "foo.topic", "*", "WRITE", "User:app2", "LITERAL");
+    var group = TopologyAclBinding.build("GROUP", "bar.group", "*", "READ", "User:app1", "LITERAL");
+
+    var acls =
+        Arrays.asList(
+            foo.asAclBinding().get(), fooWrite.asAclBinding().get(), group.asAclBinding().get());
+    DescribeAclsResult describeAclsResult = mock(DescribeAclsResult.class);
+    doReturn(KafkaFuture.completedFuture(acls)).when(describeAclsResult).values();
+    doReturn(describeAclsResult).when(kafkaAdminClient).describeAcls(AclBindingFilter.ANY);
+
+    var bindings = provider.listAcls();
+
+    assertThat(bindings).containsOnlyKeys("foo.topic", "bar.group");
+    assertThat(bindings.get("foo.topic")).containsExactlyInAnyOrder(foo, fooWrite);
+    assertThat(bindings.get("bar.group")).containsExactly(group);
+    verify(kafkaAdminClient, times(1)).describeAcls(any());
+  }
+}
@@ -22,6 +22,8 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -266,4 +268,23 @@ public class SchemaRegistryManagerTest {
     final String unknownSchemaType = "bunch-of-monkeys";
     manager.register(subjectName, unknownSchemaType, simpleSchema);
   }
+
+  @Test
+  public void shouldRegisterEverySubjectAndReportTheFailuresBySubject() throws Exception {
+    List<SchemaRegistration> registrations =
+        Arrays.asList(
+            new SchemaRegistration(
+                "bar-key", "schemas/bar-key.avsc", AvroSchema.TYPE, Optional.empty()),
+            new SchemaRegistration(
+                "missing-value", "schemas/missing-value.avsc", AvroSchema.TYPE, Optional.empty()),
+            new SchemaRegistration(
+                "bar-value", "schemas/bar-value.avsc", AvroSchema.TYPE, Optional.of("FORWARD")));
+
+    Map<String, Throwable> errors = manager.register(registrations, 2);
+
+    assertThat(errors).containsOnlyKeys("missing-value");
+    assertThat(errors.get("missing-value")).isInstanceOf(SchemaRegistryManagerException.class);
+    assertThat(client.getAllSubjects()).containsExactlyInAnyOrder("bar-key", "bar-value");
+    assertThat(client.getCompatibility("bar-value")).isEqualTo("FORWARD");
+  }
 }
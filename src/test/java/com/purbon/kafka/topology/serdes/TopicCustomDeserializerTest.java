@@ -0,0 +1,113 @@
+package com.purbon.kafka.topology.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.model.PlanMap;
+import com.purbon.kafka.topology.model.Topic;
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TopicCustomDeserializerTest {
+
+  private TopicCustomDeserializer deserializer;
+  private ObjectMapper mapper;
+
+  @Before
+  public void setup() {
+    deserializer = new TopicCustomDeserializer(new Configuration(), new PlanMap());
+    SimpleModule module = new SimpleModule();
+    module.addDeserializer(Topic.class, deserializer);
+    mapper = new ObjectMapper(new YAMLFactory());
+    mapper.registerModule(module);
+    mapper.registerModule(new Jdk8Module());
+  }
+
+  @Test
+  public void shouldBuildTheSameTopicAsTreeToValue() throws IOException {
+    JsonNode node =
+        mapper.readTree(
+            "name: foo\n"
+                + "dataType: avro\n"
+                + "config:\n"
+                + "  retention.ms: 1000\n"
+                + "schemas:\n"
+                + "  value.schema.file: schemas/foo-value.avsc\n");
+
+    Topic expected = mapper.treeToValue(node, Topic.class);
+    Topic topic = deserializer.fromTree(mapper.treeAsTokens(node), node);
+
+    assertThat(topic.getName()).isEqualTo(expected.getName());
+    assertThat(topic.getDataType()).isEqualTo(expected.getDataType());
+    assertThat(topic.getRawConfig()).isEqualTo(expected.getRawConfig());
+    assertThat(topic.getSchemas()).hasSameSizeAs(expected.getSchemas());
+  }
+
+  @Test
+  public void shouldReportAMissingNameLikeTreeToValue() throws IOException {
+    assertSameError("config:\n  replication.factor: 3\n");
+  }
+
+  @Test
+  public void shouldReportAMissingPlanLikeTreeToValue() throws IOException {
+    assertSameError("name: foo\nplan: gold\n");
+  }
+
+  @Test
+  public void shouldReportInvalidSchemasLikeTreeToValue() throws IOException {
+    assertSameError("name: foo\nschemas:\n  key.schema.file: schemas/foo-key.avsc\n");
+  }
+
+  @Test
+  public void shouldTimeTheTreeBasedBuildAgainstTreeToValue() throws IOException {
+    StringBuilder yaml = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      yaml.append("- name: topic").append(i).append("\n");
+      yaml.append("  config:\n");
+      yaml.append("    retention.ms: 1000\n");
+      yaml.append("    replication.factor: 3\n");
+    }
+    JsonNode topics = mapper.readTree(yaml.toString());
+
+    // a first round of each warms up the code paths before they are timed
+    long before = 0;
+    long after = 0;
+    for (int round = 0; round < 3; round++) {
+      long start = System.nanoTime();
+      for (JsonNode node : topics) {
+        mapper.treeToValue(node, Topic.class);
+      }
+      long middle = System.nanoTime();
+      for (JsonNode node : topics) {
+        deserializer.fromTree(mapper.treeAsTokens(node), node);
+      }
+      long end = System.nanoTime();
+      if (round > 0) {
+        before += middle - start;
+        after += end - middle;
+      }
+    }
+
+    System.out.printf(
+        "Built %d topics twice: treeToValue took %d ms, fromTree took %d ms%n",
+        topics.size(), before / 1_000_000, after / 1_000_000);
+    assertThat(topics).hasSize(5000);
+  }
+
+  private void assertSameError(String yaml) throws IOException {
+    JsonNode node = mapper.readTree(yaml);
+
+    Throwable expected = catchThrowable(() -> mapper.treeToValue(node, Topic.class));
+    Throwable error = catchThrowable(() -> deserializer.fromTree(mapper.treeAsTokens(node), node));
+
+    assertThat(expected).isNotNull();
+    assertThat(error).isExactlyInstanceOf(expected.getClass()).hasMessage(expected.getMessage());
+  }
+}
@@ -4,6 +4,8 @@ import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.ccloud.CCloudApi;
@@ -11,6 +13,7 @@ import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.model.cluster.ServiceAccountV1;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -91,4 +94,28 @@ public class CCloudUtilsTest {
     doThrow(new IOException()).when(cCloudApi).listServiceAccounts();
     utils.initializeLookupTable(cCloudApi);
   }
+
+  @Test
+  public void lookupTableShouldBeCachedUntilAPrincipalIsMissing() throws IOException {
+    Configuration config = new Configuration(cliOps, props);
+    var utils = new CCloudUtils(config);
+
+    var accounts = new HashSet<>();
+    accounts.add(new ServiceAccount("sa-xxxx", "User:foo", "description", "sa-xxxx"));
+    doReturn(accounts).when(cCloudApi).listServiceAccounts();
+    var accountsV1 = new HashSet<>();
+    accountsV1.add(new ServiceAccountV1(12345L, "email", "User:foo", "sa-xxxx"));
+    doReturn(accountsV1).when(cCloudApi).listServiceAccountsV1();
+
+    var foo = TopologyAclBinding.build("TOPIC", "topicA", "*", "READ", "User:foo", "LITERAL");
+    var bar = TopologyAclBinding.build("TOPIC", "topicA", "*", "READ", "User:bar", "LITERAL");
+
+    utils.lookupTable(cCloudApi, Collections.singletonList(foo));
+    var lookupTable = utils.lookupTable(cCloudApi, Collections.singletonList(foo));
+    assertThat(lookupTable.get("User:foo")).isEqualTo(12345L);
+    verify(cCloudApi, times(1)).listServiceAccounts();
+
+    utils.lookupTable(cCloudApi, Collections.singletonList(bar));
+    verify(cCloudApi, times(2)).listServiceAccounts();
+  }
 }
@@ -0,0 +1,39 @@
+package com.purbon.kafka.topology.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class JinjaUtilsTest {
+
+  @Test
+  public void shouldRenderTheSameTemplateWithDifferentContexts() {
+    String format = "{{context}}.{% if project %}{{project}}.{% endif %}";
+
+    Map<String, Object> context = new HashMap<>();
+    context.put("context", "team");
+    context.put("project", "foo");
+    assertThat(JinjaUtils.serialise(format, context)).isEqualTo("team.foo.");
+
+    context.put("project", "bar");
+    assertThat(JinjaUtils.serialise(format, context)).isEqualTo("team.bar.");
+
+    assertThat(JinjaUtils.serialise(format, Collections.singletonMap("context", "other")))
+        .isEqualTo("other.");
+  }
+
+  @Test
+  public void shouldFailOnEveryRenderOfAnInvalidTemplate() {
+    String format = "{{context}}.{% if project %}{{project}}";
+
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> JinjaUtils.serialise(format, Collections.emptyMap()))
+          .isInstanceOf(FatalTemplateErrorsException.class);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.purbon.kafka.topology.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class NameTemplateTest {
+
+  @Test
+  public void shouldRenderPlainVariablesWithoutJinja() {
+    NameTemplate template = NameTemplate.compile("{{context}}.{{ project }}_{{topic}}");
+    Map<String, Object> context = new HashMap<>();
+    context.put("context", "team");
+    context.put("project", "project");
+    context.put("topic", "foo");
+
+    assertThat(template.isSimple()).isTrue();
+    assertThat(template.render(context)).isEqualTo("team.project_foo");
+  }
+
+  @Test
+  public void shouldRenderMissingVariablesAsEmpty() {
+    NameTemplate template = NameTemplate.compile("{{context}}.{{dataType}}");
+    Map<String, Object> context = new HashMap<>();
+    context.put("context", "team");
+
+    assertThat(template.render(context))
+        .isEqualTo(JinjaUtils.serialise("{{context}}.{{dataType}}", context));
+  }
+
+  @Test
+  public void shouldRenderTemplateLogicWithJinja() {
+    String format = "{{context}}.{% if dlq %}{{dlq}}.{% endif %}{{topic|upper}}";
+    NameTemplate template = NameTemplate.compile(format);
+    Map<String, Object> context = new HashMap<>();
+    context.put("context", "team");
+    context.put("topic", "foo");
+
+    assertThat(template.isSimple()).isFalse();
+    assertThat(template.render(context)).isEqualTo("team.FOO");
+  }
+}